@@ -0,0 +1,110 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 날씨 API(응답 100ms)를 기다리는 요청 1000건이 한꺼번에 들어왔을 때, 모두 끝나기까지 걸리는 시간.
+ * platform 은 Tomcat 기본 작업 스레드 수(200)의 고정 풀, virtual 은 요청마다 가상 스레드를 쓴다.
+ * 호출은 WeatherClient 와 같은 RestTemplate 설정으로 보내고, 캐시는 거치지 않는다.
+ * Java 21 이 필요하다: ./gradlew jmh -PvirtualThreads -Pjmh.includes=WeatherConcurrencyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+// 매 burst 마다 연결을 새로 맺지 않도록 keep-alive 연결을 요청 수만큼 유지한다.
+@Fork(value = 1, jvmArgsAppend = {"-Dhttp.maxConnections=1000", "-Dsun.net.httpserver.maxIdleConnections=1000"})
+public class WeatherConcurrencyBenchmark {
+
+    private static final int REQUESTS = 1_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long WEATHER_DELAY_MILLIS = 100;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService platformPool;
+    private AsyncTaskExecutor executor;
+    private RestTemplate restTemplate;
+    private URI weatherApiUri;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+        // 스텁 서버가 병목이 되지 않도록 요청마다 스레드를 쓴다.
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        server.setExecutor(serverExecutor);
+        server.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(WEATHER_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        restTemplate = new RestTemplateBuilder()
+                .setConnectTimeout(Duration.ofSeconds(1))
+                .setReadTimeout(Duration.ofSeconds(10))
+                .build();
+        weatherApiUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json");
+
+        if ("virtual".equals(threads)) {
+            executor = new VirtualThreadTaskExecutor("weather-benchmark-");
+        } else {
+            platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            executor = new TaskExecutorAdapter(platformPool);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<WeatherDto[]>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> restTemplate.getForObject(weatherApiUri, WeatherDto[].class)));
+        }
+        int completed = 0;
+        for (Future<WeatherDto[]> future : futures) {
+            completed += future.get().length;
+        }
+        return completed;
+    }
+}
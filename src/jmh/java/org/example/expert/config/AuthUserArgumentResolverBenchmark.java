@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.controller.UserController;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청마다 거치는 @Auth AuthUser 파라미터 처리 비용.
+ * legacyResolveArgument 는 이전 구현(요청 속성 세 개로 AuthUser 를 새로 만듦)을 그대로 재현한다.
+ * supportsParameter 는 실제 요청에서는 HandlerMethodArgumentResolverComposite 가 캐시하므로 처음 한 번의 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthUserArgumentResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private MethodParameter parameter;
+    private NativeWebRequest webRequest;
+    private NativeWebRequest legacyWebRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new AuthUserArgumentResolver();
+        parameter = new MethodParameter(
+                UserController.class.getMethod("changePassword", AuthUser.class, UserChangePasswordRequest.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/users");
+        request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(1L, "user@example.com", UserRole.USER));
+        webRequest = new ServletWebRequest(request);
+
+        MockHttpServletRequest legacyRequest = new MockHttpServletRequest("PUT", "/users");
+        legacyRequest.setAttribute("userId", 1L);
+        legacyRequest.setAttribute("email", "user@example.com");
+        legacyRequest.setAttribute("userRole", "USER");
+        legacyWebRequest = new ServletWebRequest(legacyRequest);
+    }
+
+    @Benchmark
+    public boolean supportsParameter() {
+        return resolver.supportsParameter(parameter);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(parameter, null, webRequest, null);
+    }
+
+    @Benchmark
+    public Object legacyResolveArgument() {
+        HttpServletRequest request = (HttpServletRequest) legacyWebRequest.getNativeRequest();
+        Long userId = (Long) request.getAttribute("userId");
+        String email = (String) request.getAttribute("email");
+        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
+        return new AuthUser(userId, email, userRole);
+    }
+}
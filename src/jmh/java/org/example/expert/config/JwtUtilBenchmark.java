@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량과 토큰당 할당량(gc.alloc.rate.norm) 비교.
+ * legacy* 는 이전 구현(요청마다 Jwts.builder / parserBuilder)을 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public String legacyCreateToken() {
+        Date date = new Date();
+        return "Bearer " + Jwts.builder()
+                .setSubject(String.valueOf(1L))
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(date.getTime() + 60 * 60 * 1000L))
+                .setIssuedAt(date)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims legacyExtractClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
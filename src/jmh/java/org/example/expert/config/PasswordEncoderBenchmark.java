@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * cost 별 해시/검증 시간. 전용 스레드풀을 거치는 실제 호출 경로 그대로 측정한다.
+ * cost 를 올릴 때 로그인 한 번이 얼마나 느려지는지(대략 cost +1 마다 2배) 확인하는 용도다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "cost", cost);
+        passwordEncoder.init();
+        encodedPassword = passwordEncoder.encode("Password1234");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1234", encodedPassword);
+    }
+}
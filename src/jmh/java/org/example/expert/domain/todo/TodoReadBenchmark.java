@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.TodoTotalMode;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 100건 한 페이지를 읽을 때의 처리량과 할당량(gc.alloc.rate.norm = 페이지당 바이트) 비교.
+ * entityPage 는 이전 방식(엔티티 JOIN FETCH 후 DTO 변환), projectionPage 는 TodoResponse 직접 조회.
+ * servicePage 는 컨트롤러가 호출하는 TodoService.getTodos 를 totalMode 별로 그대로 거친다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoReadBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private TodoService todoService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTx;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()),
+                        "spring.datasource.url=jdbc:h2:mem:todo-read-benchmark;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        todoRepository = context.getBean(TodoRepository.class);
+        todoService = context.getBean(TodoService.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class).save(new User("user@example.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE * 5; i++) {
+            todos.add(new Todo("title" + i, "contents " + i, "Sunny", user));
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entityPage() {
+        return readOnlyTx.execute(status -> entityManager
+                .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC", Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> projectionPage() {
+        return readOnlyTx.execute(status -> todoRepository
+                .findTodoResponseSlice(PageRequest.of(0, PAGE_SIZE))
+                .getContent());
+    }
+
+    @Benchmark
+    public TodoPageResponse servicePage(TotalModeParam param) {
+        return todoService.getTodos(1, PAGE_SIZE, param.totalMode);
+    }
+
+    // servicePage 에만 적용되도록 별도 State 로 둔다.
+    @State(Scope.Benchmark)
+    public static class TotalModeParam {
+
+        @Param({"NONE", "APPROX", "EXACT"})
+        private TodoTotalMode totalMode;
+    }
+}
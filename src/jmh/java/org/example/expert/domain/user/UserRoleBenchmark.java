@@ -0,0 +1,35 @@
+package org.example.expert.domain.user;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 호출되는 UserRole.of 의 처리량과 할당량 비교.
+ * 토큰/요청 본문에는 보통 "USER" 처럼 대문자로 들어오고, 소문자는 대문자 변환 경로를 탄다.
+ * legacyOf 는 이전 구현(values() 스트림 + equalsIgnoreCase)을 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRoleBenchmark {
+
+    @Param({"USER", "admin"})
+    private String role;
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(role);
+    }
+
+    @Benchmark
+    public UserRole legacyOf() {
+        return Arrays.stream(UserRole.values())
+                .filter(r -> r.name().equalsIgnoreCase(role))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 작업 스레드 하나가 쓰는 시나리오별 응답 시간 기록. 스레드끼리 공유하지 않으므로 동기화하지 않고,
+ * 측정이 끝난 뒤 {@link #merge} 로 합친다.
+ */
+class LatencyRecorder {
+
+    private final Map<Scenario, Samples> samples = new EnumMap<>(Scenario.class);
+
+    void record(Scenario scenario, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(scenario, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    Map<Scenario, Samples> getSamples() {
+        return samples;
+    }
+
+    static Map<Scenario, Samples> merge(Iterable<LatencyRecorder> recorders) {
+        Map<Scenario, Samples> merged = new EnumMap<>(Scenario.class);
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samples.forEach((scenario, samples) ->
+                    merged.computeIfAbsent(scenario, key -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long elapsedNanos, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * 정렬된 값에서 nearest-rank 방식으로 백분위 값을 구한다. 호출 전에 {@link #sort()} 가 필요하다.
+         */
+        long percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * size);
+            return nanos[Math.max(0, Math.min(size, rank) - 1)];
+        }
+
+        long max() {
+            return size == 0 ? 0 : nanos[size - 1];
+        }
+
+        double mean() {
+            if (size == 0) {
+                return 0;
+            }
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += nanos[i];
+            }
+            return (double) total / size;
+        }
+
+        void sort() {
+            Arrays.sort(nanos, 0, size);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.loadtest.SeedData.SeededTodo;
+import org.example.expert.loadtest.SeedData.SeededUser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오 하나를 HTTP 요청 하나로 보낸다. 대상 유저/일정은 적재한 데이터에서 무작위로 고른다.
+ */
+class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong signupSequence = new AtomicLong();
+    private final String baseUrl;
+    private final List<SeededUser> users;
+    private final List<SeededTodo> todos;
+    private final int listPages;
+
+    LoadTestClient(String baseUrl, SeedData seedData) {
+        this.baseUrl = baseUrl;
+        this.users = seedData.users();
+        this.todos = seedData.todos();
+        // 목록 조회는 앞쪽 페이지 위주로 읽되, 적재한 일정 범위를 넘지 않게 한다.
+        this.listPages = Math.max(1, Math.min(10, todos.size() / 10));
+    }
+
+    /**
+     * @return 2xx 응답이면 true
+     */
+    boolean execute(Scenario scenario) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = switch (scenario) {
+            case SIGNUP -> post(scenario, "/auth/signup", null, Map.of(
+                    "email", "load-signup-" + signupSequence.incrementAndGet() + "@example.com",
+                    "password", SeedData.PASSWORD,
+                    "userRole", "USER"));
+            case SIGNIN -> post(scenario, "/auth/signin", null, Map.of(
+                    "email", randomUser(random).email(),
+                    "password", SeedData.PASSWORD));
+            case CREATE_TODO -> post(scenario, "/todos", randomUser(random), Map.of(
+                    "title", "load title",
+                    "contents", "load contents"));
+            case LIST_TODOS -> get(scenario, "/todos?page=" + random.nextInt(1, listPages + 1) + "&size=10",
+                    randomUser(random));
+            case CREATE_COMMENT -> post(scenario, "/todos/" + randomTodo(random).id() + "/comments", randomUser(random),
+                    Map.of("contents", "load comment"));
+            case ADD_MANAGER -> {
+                SeededTodo todo = randomTodo(random);
+                // 작성자가 아닌 유저를 담당자로 등록한다.
+                int managerIndex = (todo.ownerIndex() + random.nextInt(1, users.size())) % users.size();
+                yield post(scenario, "/todos/" + todo.id() + "/managers", users.get(todo.ownerIndex()),
+                        Map.of("managerUserId", users.get(managerIndex).id()));
+            }
+        };
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() / 100 == 2;
+    }
+
+    private HttpRequest post(Scenario scenario, String path, SeededUser user, Map<String, Object> body)
+            throws JsonProcessingException {
+        return builder(scenario, path, user)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest get(Scenario scenario, String path, SeededUser user) {
+        return builder(scenario, path, user).GET().build();
+    }
+
+    private HttpRequest.Builder builder(Scenario scenario, String path, SeededUser user) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(LoadTestConfiguration.SCENARIO_HEADER, scenario.getKey());
+        if (user != null) {
+            builder.header("Authorization", user.bearerToken());
+        }
+        return builder;
+    }
+
+    private SeededUser randomUser(ThreadLocalRandom random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    private SeededTodo randomTodo(ThreadLocalRandom random) {
+        return todos.get(random.nextInt(todos.size()));
+    }
+}
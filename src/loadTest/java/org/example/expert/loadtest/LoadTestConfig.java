@@ -0,0 +1,62 @@
+package org.example.expert.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티(-PloadTest.xxx)로 바꿀 수 있다.
+ * loadTest.app. 으로 시작하는 값은 접두어를 떼고 애플리케이션 설정으로 넘긴다. (예: loadTest.app.password.bcrypt.cost=10)
+ */
+public record LoadTestConfig(
+        int users,
+        int todosPerUser,
+        int commentsPerTodo,
+        int threads,
+        int warmupSeconds,
+        int durationSeconds,
+        Map<Scenario, Integer> mix,
+        long weatherDelayMillis,
+        Path reportPath,
+        Map<String, String> appProperties
+) {
+
+    private static final String PREFIX = "loadTest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+    private static final String DEFAULT_MIX =
+            "signup=5,signin=10,createTodo=10,listTodos=40,createComment=25,addManager=10";
+
+    public LoadTestConfig {
+        if (users < 2) {
+            throw new IllegalArgumentException("담당자 시나리오를 위해 users 는 2 이상이어야 합니다.");
+        }
+        if (todosPerUser < 1 || commentsPerTodo < 0 || threads < 1 || warmupSeconds < 0 || durationSeconds < 1) {
+            throw new IllegalArgumentException("부하 테스트 설정 값이 올바르지 않습니다.");
+        }
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        Map<String, String> appProperties = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+        return new LoadTestConfig(
+                intProperty("users", 200),
+                intProperty("todosPerUser", 5),
+                intProperty("commentsPerTodo", 10),
+                intProperty("threads", 16),
+                intProperty("warmupSeconds", 10),
+                intProperty("durationSeconds", 30),
+                Scenario.parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                intProperty("weatherDelayMillis", 0),
+                Path.of(System.getProperty(PREFIX + "report", "build/reports/load-test/report.json")),
+                Map.copyOf(appProperties)
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
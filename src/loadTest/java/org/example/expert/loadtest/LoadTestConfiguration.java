@@ -0,0 +1,49 @@
+package org.example.expert.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 부하 테스트에서만 올리는 설정. 클라이언트가 보낸 시나리오 헤더를 요청 스레드에 걸어
+ * {@link ScenarioStatementCounter} 가 SQL 을 시나리오별로 나눠 세도록 한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LoadTestConfiguration {
+
+    public static final String SCENARIO_HEADER = "X-Load-Scenario";
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> scenarioFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                String scenario = request.getHeader(SCENARIO_HEADER);
+                if (scenario == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                ScenarioStatementCounter.begin(Scenario.of(scenario));
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    ScenarioStatementCounter.end();
+                }
+            }
+        });
+        registrationBean.addUrlPatterns("/*");
+        // 다른 필터에서 실행되는 SQL 도 포함되도록 가장 먼저 실행한다.
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.loadtest.LatencyRecorder.Samples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 빌드끼리 비교할 수 있도록 JSON 으로 남기는 결과. 시나리오 key 와 필드 이름은 바꾸지 않는다.
+ * 응답 시간은 밀리초, 처리량은 측정 구간(워밍업 제외)의 초당 요청 수다.
+ */
+record LoadTestReport(
+        Instant startedAt,
+        String javaVersion,
+        Settings settings,
+        double elapsedSeconds,
+        Totals totals,
+        Map<String, ScenarioResult> scenarios,
+        long untaggedStatements,
+        long weatherStubRequests
+) {
+
+    record Settings(int users, int todosPerUser, int commentsPerTodo, int threads,
+                    int warmupSeconds, int durationSeconds, Map<String, Integer> mix,
+                    long weatherDelayMillis, Map<String, String> appProperties) {
+    }
+
+    record Totals(long requests, long errors, double throughputPerSecond) {
+    }
+
+    record Latency(double p50, double p90, double p99, double max, double mean) {
+    }
+
+    record ScenarioResult(long requests, long errors, double throughputPerSecond, Latency latencyMillis,
+                          long statements, double statementsPerRequest) {
+    }
+
+    static LoadTestReport of(Instant startedAt, LoadTestConfig config, Map<Scenario, Samples> samples,
+                             long elapsedNanos, long weatherStubRequests) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((scenario, weight) -> mix.put(scenario.getKey(), weight));
+        Settings settings = new Settings(config.users(), config.todosPerUser(), config.commentsPerTodo(),
+                config.threads(), config.warmupSeconds(), config.durationSeconds(), mix,
+                config.weatherDelayMillis(), config.appProperties());
+
+        Map<String, ScenarioResult> scenarios = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (Scenario scenario : config.mix().keySet()) {
+            Samples scenarioSamples = samples.getOrDefault(scenario, new Samples());
+            scenarioSamples.sort();
+            long statements = ScenarioStatementCounter.count(scenario);
+            int count = scenarioSamples.size();
+            scenarios.put(scenario.getKey(), new ScenarioResult(
+                    count,
+                    scenarioSamples.errors(),
+                    round(count / elapsedSeconds),
+                    new Latency(
+                            millis(scenarioSamples.percentile(50)),
+                            millis(scenarioSamples.percentile(90)),
+                            millis(scenarioSamples.percentile(99)),
+                            millis(scenarioSamples.max()),
+                            millis(scenarioSamples.mean())),
+                    statements,
+                    count == 0 ? 0 : round((double) statements / count)));
+            requests += count;
+            errors += scenarioSamples.errors();
+        }
+
+        return new LoadTestReport(startedAt, System.getProperty("java.version"), settings, round(elapsedSeconds),
+                new Totals(requests, errors, round(requests / elapsedSeconds)), scenarios,
+                ScenarioStatementCounter.untaggedCount(), weatherStubRequests);
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    private static double millis(double nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ExpertApplication 을 H2 와 날씨 스텁 서버로 띄우고, 데이터를 적재한 뒤 설정한 비율로 요청을 보낸다.
+ * 실행: ./gradlew loadTest -PloadTest.threads=32 -PloadTest.durationSeconds=60
+ * 결과는 loadTest.report 경로(기본 build/reports/load-test/report.json)에 남는다.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Instant startedAt = Instant.now();
+
+        try (StubWeatherServer weatherServer = new StubWeatherServer(config.weatherDelayMillis()).start();
+             ConfigurableApplicationContext context = startApplication(config, weatherServer)) {
+            SeedData seedData = SeedData.load(context, config);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestClient client = new LoadTestClient("http://127.0.0.1:" + port, seedData);
+            log("적재 완료: users=%d, todos=%d", seedData.users().size(), seedData.todos().size());
+
+            if (config.warmupSeconds() > 0) {
+                log("워밍업 %d초", config.warmupSeconds());
+                run(client, config, config.warmupSeconds());
+            }
+            ScenarioStatementCounter.reset();
+
+            log("측정 %d초 (threads=%d)", config.durationSeconds(), config.threads());
+            long start = System.nanoTime();
+            List<LatencyRecorder> recorders = run(client, config, config.durationSeconds());
+            long elapsedNanos = System.nanoTime() - start;
+
+            LoadTestReport report = LoadTestReport.of(startedAt, config, LatencyRecorder.merge(recorders),
+                    elapsedNanos, weatherServer.getRequestCount());
+            report.write(config.reportPath());
+            report.scenarios().forEach((key, result) -> log("%-14s %8d req %6d err %10.1f req/s  p50=%.2fms p99=%.2fms  sql/req=%.2f",
+                    key, result.requests(), result.errors(), result.throughputPerSecond(),
+                    result.latencyMillis().p50(), result.latencyMillis().p99(), result.statementsPerRequest()));
+            log("리포트: %s", config.reportPath().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, StubWeatherServer weatherServer) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        // 실행 중인 애플리케이션의 actuator 포트(8081)와 겹치지 않게 한다.
+        properties.put("management.server.port", "0");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                ScenarioStatementCounter.class.getName());
+        properties.put("weather.api.base-url", weatherServer.getBaseUrl());
+        // 모든 요청이 한 IP 에서 오므로 로그인 제한은 풀어 둔다.
+        properties.put("rate-limit.signin.ip.capacity", String.valueOf(Integer.MAX_VALUE));
+        properties.put("rate-limit.signin.email.capacity", String.valueOf(Integer.MAX_VALUE));
+        properties.put("audit.dir", "build/load-test/audit");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        properties.putAll(config.appProperties());
+
+        return new SpringApplicationBuilder(ExpertApplication.class, LoadTestConfiguration.class)
+                .properties(properties)
+                .run();
+    }
+
+    private static List<LatencyRecorder> run(LoadTestClient client, LoadTestConfig config, int seconds) throws Exception {
+        Scenario[] scenarios = config.mix().keySet().toArray(Scenario[]::new);
+        int[] cumulativeWeights = new int[scenarios.length];
+        int totalWeight = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            totalWeight += config.mix().get(scenarios[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+        int weightBound = totalWeight;
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>(config.threads());
+            for (int i = 0; i < config.threads(); i++) {
+                futures.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(scenarios, cumulativeWeights, ThreadLocalRandom.current().nextInt(weightBound));
+                        long begin = System.nanoTime();
+                        boolean success;
+                        try {
+                            success = client.execute(scenario);
+                        } catch (IOException e) {
+                            success = false;
+                        }
+                        recorder.record(scenario, System.nanoTime() - begin, success);
+                    }
+                    return recorder;
+                }));
+            }
+            List<LatencyRecorder> recorders = new ArrayList<>(futures.size());
+            for (Future<LatencyRecorder> future : futures) {
+                recorders.add(future.get());
+            }
+            return recorders;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Scenario pick(Scenario[] scenarios, int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[load-test] " + String.format(format, args));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.expert.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트에서 섞어 보내는 요청 종류. key 는 loadTest.mix 설정과 리포트에서 쓰는 이름이다.
+ */
+public enum Scenario {
+    SIGNUP("signup"),
+    SIGNIN("signin"),
+    CREATE_TODO("createTodo"),
+    LIST_TODOS("listTodos"),
+    CREATE_COMMENT("createComment"),
+    ADD_MANAGER("addManager");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Scenario of(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key) || scenario.name().equals(key.toUpperCase(Locale.ROOT))) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + key);
+    }
+
+    /**
+     * "signin=10,listTodos=40" 형식의 비율을 읽는다. 적지 않은 시나리오는 보내지 않는다.
+     */
+    public static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadTest.mix 형식이 잘못되었습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("비율은 0 이상이어야 합니다: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(of(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadTest.mix 에 보낼 시나리오가 없습니다.");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 요청 시나리오별로 센다.
+ * 요청 스레드에 시나리오를 걸어 두는 것은 {@link LoadTestConfiguration} 의 필터가 한다.
+ * Hibernate 가 클래스 이름으로 직접 생성하므로 카운터는 static 으로 둔다.
+ */
+public class ScenarioStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scenario> CURRENT = new ThreadLocal<>();
+    private static final Map<Scenario, LongAdder> COUNTS = new EnumMap<>(Scenario.class);
+    private static final LongAdder UNTAGGED = new LongAdder();
+
+    static {
+        for (Scenario scenario : Scenario.values()) {
+            COUNTS.put(scenario, new LongAdder());
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scenario scenario = CURRENT.get();
+        (scenario == null ? UNTAGGED : COUNTS.get(scenario)).increment();
+        return sql;
+    }
+
+    static void begin(Scenario scenario) {
+        CURRENT.set(scenario);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static long count(Scenario scenario) {
+        return COUNTS.get(scenario).sum();
+    }
+
+    // 요청 밖에서 실행된 SQL (데이터 적재, 스케줄러 등)
+    static long untaggedCount() {
+        return UNTAGGED.sum();
+    }
+
+    static void reset() {
+        COUNTS.values().forEach(LongAdder::reset);
+        UNTAGGED.reset();
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하를 걸기 전에 리포지토리로 직접 넣어 두는 유저/일정/댓글.
+ * 비밀번호 해시는 한 번만 만들어 모든 유저가 같이 쓰고, 토큰도 미리 발급해 둔다.
+ */
+record SeedData(List<SeededUser> users, List<SeededTodo> todos) {
+
+    static final String PASSWORD = "Password1";
+
+    record SeededUser(long id, String email, String bearerToken) {
+    }
+
+    record SeededTodo(long id, int ownerIndex) {
+    }
+
+    static SeedData load(ApplicationContext context, LoadTestConfig config) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<User> users = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            users.add(new User("load-user-" + i + "@example.com", encodedPassword, UserRole.USER));
+        }
+        List<User> savedUsers = tx.execute(status -> userRepository.saveAll(users));
+
+        List<SeededUser> seededUsers = new ArrayList<>(savedUsers.size());
+        List<SeededTodo> seededTodos = new ArrayList<>(savedUsers.size() * config.todosPerUser());
+        for (int i = 0; i < savedUsers.size(); i++) {
+            User user = savedUsers.get(i);
+            int ownerIndex = i;
+            seededUsers.add(new SeededUser(user.getId(), user.getEmail(),
+                    jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())));
+
+            tx.executeWithoutResult(status -> {
+                List<Todo> todos = new ArrayList<>(config.todosPerUser());
+                for (int t = 0; t < config.todosPerUser(); t++) {
+                    todos.add(new Todo("title " + t, "contents " + t, "Sunny", user));
+                }
+                List<Comment> comments = new ArrayList<>(config.todosPerUser() * config.commentsPerTodo());
+                for (Todo todo : todoRepository.saveAll(todos)) {
+                    seededTodos.add(new SeededTodo(todo.getId(), ownerIndex));
+                    for (int c = 0; c < config.commentsPerTodo(); c++) {
+                        comments.add(new Comment("comment " + c, savedUsers.get((ownerIndex + c + 1) % savedUsers.size()), todo));
+                    }
+                }
+                commentRepository.saveAll(comments);
+            });
+        }
+        return new SeedData(List.copyOf(seededUsers), List.copyOf(seededTodos));
+    }
+}
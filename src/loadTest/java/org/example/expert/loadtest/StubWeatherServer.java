@@ -0,0 +1,79 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * f-api.github.io 의 /f-api/weather.json 을 흉내 내는 로컬 서버.
+ * 윤년 기준 366일치 날짜(MM-dd)를 모두 내려주므로 실행 날짜와 관계없이 오늘 날씨를 찾을 수 있다.
+ */
+public class StubWeatherServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final byte[] body;
+    private final long delayMillis;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public StubWeatherServer(long delayMillis) throws IOException {
+        this.delayMillis = delayMillis;
+        this.body = buildWeatherJson().getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+    }
+
+    public StubWeatherServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void sleep() {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String buildWeatherJson() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        String[] weathers = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; i++) {
+            json.add("{\"date\":\"" + date.plusDays(i).format(formatter) + "\",\"weather\":\"" + weathers[i % weathers.length] + "\"}");
+        }
+        return json.toString();
+    }
+}
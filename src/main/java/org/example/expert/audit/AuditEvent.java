@@ -0,0 +1,24 @@
+package org.example.expert.audit;
+
+import java.time.Instant;
+
+/**
+ * 관리자 API 호출 한 건의 감사 기록. 요청 스레드에서 만들어 writer 스레드로 넘기므로 불변이어야 한다.
+ *
+ * @param outcome  SUCCESS 또는 실패한 예외의 클래스 이름
+ * @param affected 일괄 작업이 실제로 처리한 건수. 실패했다면 그 전까지 커밋된 건수이고, 일괄 작업이 아니면 null 이다.
+ */
+public record AuditEvent(
+        Instant occurredAt,
+        Long userId,
+        String httpMethod,
+        String path,
+        String handler,
+        String args,
+        String outcome,
+        long elapsedMillis,
+        Long affected
+) {
+
+    public static final String SUCCESS = "SUCCESS";
+}
@@ -0,0 +1,13 @@
+package org.example.expert.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * writer 스레드가 모은 감사 기록을 한 번에 저장하는 곳. 파일 대신 DB 테이블 등에 쓰려면 이 구현을 바꾼다.
+ */
+public interface AuditEventSink extends Closeable {
+
+    void write(List<AuditEvent> events) throws IOException;
+}
@@ -0,0 +1,120 @@
+package org.example.expert.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 감사 기록. 요청 스레드는 링 버퍼에 넣기만 하고, 파일 I/O 는 writer 스레드가 배치로 처리한다.
+ * 버퍼가 가득 차면 요청을 기다리게 하지 않고 기록을 버리며, 버린 개수는 getDroppedCount() 로 확인한다.
+ */
+@Slf4j
+@Component
+public class AuditLogger {
+
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final AuditEventSink sink;
+    private final int batchSize;
+    private final long idleParkNanos;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long writtenCount;
+    private long failedCount;
+    private long lastReportedDropped;
+
+    @Autowired
+    public AuditLogger(@Value("${audit.dir:logs/audit}") String directory,
+                       @Value("${audit.buffer-size:8192}") int bufferSize,
+                       @Value("${audit.batch-size:256}") int batchSize,
+                       @Value("${audit.idle-park-millis:50}") long idleParkMillis) {
+        this(new RollingFileAuditSink(Path.of(directory), ZoneId.systemDefault()), bufferSize, batchSize, idleParkMillis);
+    }
+
+    AuditLogger(AuditEventSink sink, int bufferSize, int batchSize, long idleParkMillis) {
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void record(AuditEvent event) {
+        buffer.offer(event);
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.drain(batch::add, batchSize) == 0) {
+                // 넣는 쪽이 깨우지 않으므로(락 없이 넣기 위해) 비어 있으면 잠시 쉬었다가 다시 본다.
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            flush(batch);
+        }
+        // 종료 시 남은 기록을 모두 쓴다.
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            flush(batch);
+        }
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.warn("감사 로그를 닫지 못했습니다.", e);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            sink.write(batch);
+            writtenCount += batch.size();
+        } catch (Exception e) {
+            failedCount += batch.size();
+            log.error("감사 로그 {}건을 기록하지 못했습니다. (누적 실패 {}건)", batch.size(), failedCount, e);
+        } finally {
+            batch.clear();
+        }
+        long dropped = buffer.getDroppedCount();
+        if (dropped != lastReportedDropped) {
+            log.warn("감사 로그 버퍼가 가득 차 {}건을 버렸습니다. (누적 {}건, 기록 {}건)",
+                    dropped - lastReportedDropped, dropped, writtenCount);
+            lastReportedDropped = dropped;
+        }
+    }
+}
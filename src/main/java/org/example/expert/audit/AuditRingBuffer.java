@@ -0,0 +1,81 @@
+package org.example.expert.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 넣고 writer 스레드 하나가 꺼내는 고정 크기 링 버퍼.
+ * 넣는 쪽은 tail 을 CAS 로 한 칸 확보한 뒤 슬롯에 기록하므로 락을 잡지 않고, 가득 차면 기다리지 않고 버린다.
+ * 꺼내는 쪽은 슬롯이 채워진(null 이 아닌) 곳까지만 읽으므로 확보만 되고 아직 기록되지 않은 슬롯을 건너뛰지 않는다.
+ */
+public class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // 꺼내는 스레드만 쓰고, 넣는 스레드는 남은 공간 계산에만 읽는다.
+    private volatile long head;
+
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return 버퍼가 가득 차 버렸으면 false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long current = tail.get();
+            if (current - head >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(current, current + 1)) {
+                slots.set((int) current & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 maxElements 개를 넣은 순서대로 꺼낸다. writer 스레드 하나에서만 호출해야 한다.
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<E> consumer, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
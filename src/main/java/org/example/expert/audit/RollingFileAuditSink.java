@@ -0,0 +1,74 @@
+package org.example.expert.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 감사 기록을 날짜별 파일(admin-audit-yyyy-MM-dd.log)에 한 줄에 JSON 하나씩 이어 쓴다.
+ * 기록 시각의 날짜가 바뀌면 새 파일로 넘어간다. 오래된 파일 정리는 운영 환경의 logrotate 등에 맡긴다.
+ */
+public class RollingFileAuditSink implements AuditEventSink {
+
+    private static final String FILE_PREFIX = "admin-audit-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final ZoneId zone;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private LocalDate currentDate;
+    private BufferedWriter writer;
+
+    public RollingFileAuditSink(Path directory, ZoneId zone) {
+        this.directory = directory;
+        this.zone = zone;
+    }
+
+    @Override
+    public void write(List<AuditEvent> events) throws IOException {
+        for (AuditEvent event : events) {
+            writerFor(LocalDate.ofInstant(event.occurredAt(), zone)).write(objectMapper.writeValueAsString(event));
+            writer.newLine();
+        }
+        // 배치 단위로 한 번만 flush 한다.
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    public static Path fileFor(Path directory, LocalDate date) {
+        return directory.resolve(FILE_PREFIX + date + FILE_SUFFIX);
+    }
+
+    private BufferedWriter writerFor(LocalDate date) throws IOException {
+        if (writer == null || !date.equals(currentDate)) {
+            close();
+            Files.createDirectories(directory);
+            writer = Files.newBufferedWriter(fileFor(directory, date), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            currentDate = date;
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.client;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * weather.json 을 날짜(MM-dd) 기준 Map 으로 한 번만 파싱해 보관하는 캐시.
+ * 조회는 락 없이 volatile 스냅샷을 읽고, 교체는 refresh 시에만 일어난다.
+ */
+public class WeatherCache {
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), null);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong staleCount = new AtomicLong();
+
+    /**
+     * 오늘 날짜로 로딩된 스냅샷에 값이 있으면 반환하고, 없으면 null 을 반환한다.
+     */
+    public String get(String date, LocalDate today) {
+        String weather = peek(date, today);
+        if (weather == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return weather;
+    }
+
+    /**
+     * hit/miss 집계 없이 조회한다. 갱신 직후 다시 읽을 때 사용한다.
+     */
+    public String peek(String date, LocalDate today) {
+        Snapshot current = snapshot;
+        return today.equals(current.loadedDate) ? current.weatherByDate.get(date) : null;
+    }
+
+    /**
+     * 로딩 날짜와 관계없이 마지막으로 받아온 문서에서 값을 찾는다.
+     * 문서에는 여러 날짜가 들어있으므로, 갱신이 실패해도 이전 문서로 오늘 날씨를 응답할 수 있다.
+     */
+    public String getLastKnown(String date) {
+        String weather = snapshot.weatherByDate.get(date);
+        if (weather != null) {
+            staleCount.incrementAndGet();
+        }
+        return weather;
+    }
+
+    public void replace(Map<String, String> weatherByDate, LocalDate loadedDate) {
+        snapshot = new Snapshot(Map.copyOf(weatherByDate), loadedDate);
+        refreshCount.incrementAndGet();
+    }
+
+    public boolean isLoadedOn(LocalDate date) {
+        return date.equals(snapshot.loadedDate);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    private record Snapshot(Map<String, String> weatherByDate, LocalDate loadedDate) {
+    }
+}
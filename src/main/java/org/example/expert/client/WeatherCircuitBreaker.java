@@ -0,0 +1,71 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날씨 API 연속 실패 시 일정 시간 동안 호출을 차단하는 간단한 서킷 브레이커.
+ * OPEN 상태가 끝나면 한 번의 시험 호출(HALF_OPEN)을 허용하고, 성공하면 다시 CLOSED 로 돌아간다.
+ */
+public class WeatherCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final long NOT_OPEN = -1L;
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(NOT_OPEN);
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public WeatherCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 가능 여부. OPEN 시간이 지났다면 시험 호출 한 건만 통과시킨다.
+     */
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened == NOT_OPEN) {
+            return true;
+        }
+        long now = clock.millis();
+        // 시험 호출 권한은 CAS 에 성공한 한 요청만 가져간다. 실패하면 다시 openMillis 만큼 차단된다.
+        if (now - opened >= openMillis && openedAt.compareAndSet(opened, now)) {
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(NOT_OPEN);
+    }
+
+    public void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(clock.millis());
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened == NOT_OPEN) {
+            return State.CLOSED;
+        }
+        return clock.millis() - opened >= openMillis ? State.HALF_OPEN : State.OPEN;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -1,69 +1,241 @@
 package org.example.expert.client;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    // 날씨를 가져오지 못했고 지난 값도 없을 때 돌려주는 값. 일정 저장은 날씨 때문에 실패하지 않는다.
+    public static final String UNKNOWN_WEATHER = "Unknown";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final Clock clock;
+    private final WeatherCache weatherCache = new WeatherCache();
+    // 캐시가 비었을 때 동시에 들어온 요청들이 한 번만 원격 호출을 하도록 막는다.
+    // 락을 쥔 채 원격 호출을 기다리므로 synchronized 를 쓰면 가상 스레드가 캐리어 스레드에 고정(pinning)된다.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // 지난 문서로 응답한 뒤의 갱신은 요청 스레드가 아닌 별도 스레드에서 한 건만 수행한다.
+    private final ExecutorService refreshExecutor;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    @Autowired
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.api.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${weather.api.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            Environment environment
+    ) {
+        this(builder, baseUrl, Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs),
+                failureThreshold, Duration.ofMillis(openDurationMs), Clock.systemDefaultZone(),
+                refreshThreadFactory(Threading.VIRTUAL.isActive(environment)));
+    }
+
+    WeatherClient(RestTemplateBuilder builder, String baseUrl, Duration connectTimeout, Duration readTimeout,
+                  int failureThreshold, Duration openDuration, Clock clock) {
+        this(builder, baseUrl, connectTimeout, readTimeout, failureThreshold, openDuration, clock,
+                refreshThreadFactory(false));
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    WeatherClient(RestTemplateBuilder builder, String baseUrl, Duration connectTimeout, Duration readTimeout,
+                  int failureThreshold, Duration openDuration, Clock clock, ThreadFactory refreshThreadFactory) {
+        this.refreshExecutor = Executors.newSingleThreadExecutor(refreshThreadFactory);
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.circuitBreaker = new WeatherCircuitBreaker(failureThreshold, openDuration, clock);
+        this.clock = clock;
     }
 
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now(clock);
+        String date = today.format(DATE_FORMATTER);
+
+        String weather = weatherCache.get(date, today);
+        if (weather != null) {
+            return weather;
+        }
+
+        // 이전 문서에 오늘 값이 있으면 바로 응답하고, 갱신은 뒤에서 처리한다.
+        if (!weatherCache.isLoadedOn(today)) {
+            String lastKnown = weatherCache.getLastKnown(date);
+            if (lastKnown != null) {
+                scheduleRefresh();
+                return lastKnown;
+            }
+        }
+
+        refreshLock.lock();
+        try {
+            // 락을 기다리는 동안 다른 요청이 이미 갱신했을 수 있다.
+            if (!weatherCache.isLoadedOn(today)) {
+                weatherCache.replace(fetchWeatherByDate(), today);
+            }
+        } catch (CircuitOpenException e) {
+            // 서킷이 열려 있는 동안은 요청마다 스택을 남기지 않는다. 차단 횟수는 서킷 지표로 본다.
+            log.debug("날씨 API 차단 중, {} 로 응답", UNKNOWN_WEATHER);
+            return UNKNOWN_WEATHER;
+        } catch (RuntimeException e) {
+            log.warn("날씨 조회 실패, {} 로 응답", UNKNOWN_WEATHER, e);
+            return UNKNOWN_WEATHER;
+        } finally {
+            refreshLock.unlock();
+        }
+
+        weather = weatherCache.peek(date, today);
+        if (weather == null) {
+            log.warn("날씨 문서에 오늘({}) 값이 없어 {} 로 응답", date, UNKNOWN_WEATHER);
+            return UNKNOWN_WEATHER;
+        }
+        return weather;
+    }
+
+    // 기본값은 매일 자정. 날짜가 바뀐 뒤 첫 요청이 원격 호출을 기다리지 않도록 미리 갱신한다.
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 0 0 * * *}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            weatherCache.replace(fetchWeatherByDate(), LocalDate.now(clock));
+            log.info("날씨 캐시 갱신 완료 hit={}, miss={}, stale={}, refresh={}",
+                    weatherCache.getHitCount(), weatherCache.getMissCount(),
+                    weatherCache.getStaleCount(), weatherCache.getRefreshCount());
+        } catch (RuntimeException e) {
+            // 갱신 실패는 기존 캐시를 그대로 두고, 다음 요청에서 다시 시도한다.
+            log.warn("날씨 캐시 갱신 실패", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public WeatherCache getWeatherCache() {
+        return weatherCache;
+    }
+
+    public WeatherCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshScheduled.set(false);
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException();
+        }
+        try {
+            Map<String, String> weatherByDate = requestWeatherByDate();
+            circuitBreaker.onSuccess();
+            return weatherByDate;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private Map<String, String> requestWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         // HttpStatus.Ok 는 200이다.
-        //        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-        //            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
-        //        } else {
-        //            if (weatherArray == null || weatherArray.length == 0) {
-        //                throw new ServerException("날씨 데이터가 없습니다.");
-        //            }
-        //        }
-        // 굳이 else를 쓸 필요가 없다.
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
         }
         if (weatherArray == null || weatherArray.length == 0) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
-        String today = getCurrentDate();
 
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
+        return weatherByDate;
+    }
+
+    private static class CircuitOpenException extends ServerException {
+
+        CircuitOpenException() {
+            super("날씨 API 호출이 일시적으로 차단되었습니다.");
+        }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    // spring.threads.virtual.enabled(Java 21 이상)이면 요청 스레드와 같이 갱신도 가상 스레드에서 한다.
+    private static ThreadFactory refreshThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor("weather-refresh-").getVirtualThreadFactory();
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, "weather-refresh");
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
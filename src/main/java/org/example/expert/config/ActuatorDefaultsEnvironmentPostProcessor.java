@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * actuator 는 JwtFilter 가 걸리지 않는 별도 포트에서 로컬로만 열고, /actuator/prometheus 로 수집한다.
+ * main() 뿐 아니라 SpringApplicationBuilder, @SpringBootTest 로 띄워도 같은 기본값이 걸리도록 spring.factories 로 등록한다.
+ * 설정 파일, 환경 변수, 실행 인자, 기본 속성 어디서든 이미 지정한 키는 건드리지 않는다.
+ */
+public class ActuatorDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY_SOURCE_NAME = "actuatorDefaults";
+
+    static final Map<String, Object> DEFAULTS = Map.of(
+            "management.server.port", "8081",
+            "management.server.address", "127.0.0.1",
+            "management.endpoints.web.exposure.include", "health,metrics,prometheus"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Map<String, Object> missing = new HashMap<>();
+        DEFAULTS.forEach((key, value) -> {
+            if (!environment.containsProperty(key)) {
+                missing.put(key, value);
+            }
+        });
+        if (!missing.isEmpty()) {
+            environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, missing));
+        }
+    }
+
+    // 설정 파일(ConfigData)을 읽은 뒤에 실행해야 파일에 지정한 값을 알 수 있다.
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -1,45 +1,105 @@
 package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
-import lombok.val;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.audit.AuditEvent;
+import org.example.expert.audit.AuditLogger;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.StringJoiner;
 
 @Component
 @Aspect
-@Slf4j
+@RequiredArgsConstructor
 public class AspectAdmin {
-    LocalDateTime now = LocalDateTime.now();
+
+    private final AuditLogger auditLogger;
 
     @Pointcut("@annotation(org.example.expert.annotation.Admin)")
-    private void adminDeleteComment() {}
+    private void adminApi() {}
 
-    @Around("adminDeleteComment()&&args(authUser,..)")
-    public Object adviceAdminDeleteComment(ProceedingJoinPoint joinPoint,AuthUser authUser) throws Throwable {
+    @Around("adminApi()&&args(authUser,..)")
+    public Object adviceAdminApi(ProceedingJoinPoint joinPoint,AuthUser authUser) throws Throwable {
         //- **로그 기록에는 다음 정보가 포함되어야 합니다:**
         //    - 요청한 사용자의 ID
         //    - API 요청 시각
         //    - API 요청 URL
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        // 요청 정보는 요청 스레드에서 미리 읽어 둔다. 스트리밍 작업이 끝날 때는 요청 객체를 쓸 수 없다.
+        PendingEvent pending = new PendingEvent(
+                Instant.now(),
+                System.nanoTime(),
+                authUser.getId(),
+                request.getMethod(),
+                request.getServletPath(),
+                joinPoint.getSignature().toShortString(),
+                summarize(joinPoint.getArgs()));
+
+        Object result;
         try {
-            Object result = joinPoint.proceed();
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            auditLogger.record(pending.complete(e, null));
+            throw e;
+        }
+
+        // 일괄 삭제는 컨트롤러가 반환한 뒤에도 BulkJobExecutor 에서 계속 지운다.
+        // 그 작업이 끝났을 때의 결과와 지운 수로 기록해야 실패가 남는다. (응답 전달이 끊겨도 기록은 삭제 기준이다)
+        if (result instanceof ResponseEntity<?> response
+                && response.getBody() instanceof NdjsonResponse.ProgressBody<?> body) {
+            body.onCompletion((affected, failure) -> auditLogger.record(pending.complete(failure, affected)));
             return result;
-        } finally {
-            log.info("요청 사용자 id={}", authUser.getId()); //- 요청한 사용자의 ID
-            log.info("현재 시각 {}",now); //- API 요청 시각
-            HttpServletRequest request =
-                    ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-            log.info(request.getMethod()+" : "+request.getServletPath()); //- API 요청 URL 와 HTTP Method
         }
+
+        // 요청 스레드에서는 불변 이벤트를 버퍼에 넣기만 하고, 파일 기록은 AuditLogger 의 writer 스레드가 한다.
+        // 일괄 삭제처럼 여러 행을 다루는 요청도 요청당 한 건만 남기고, 컬렉션 인자는 개수만 기록한다.
+        auditLogger.record(pending.complete(null, null));
+        return result;
     }
 
+    private static String summarize(Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object arg : args) {
+            if (arg instanceof AuthUser) {
+                continue;
+            }
+            if (arg instanceof Collection<?> collection) {
+                joiner.add(collection.size() + " items");
+            } else if (arg != null && arg.getClass().isArray()) {
+                joiner.add(Array.getLength(arg) + " items");
+            } else {
+                joiner.add(String.valueOf(arg));
+            }
+        }
+        return joiner.toString();
+    }
+
+    private record PendingEvent(Instant requestedAt, long startNanos, Long userId, String httpMethod,
+                                String path, String handler, String args) {
+
+        AuditEvent complete(Throwable failure, Long affected) {
+            return new AuditEvent(
+                    requestedAt,
+                    userId,
+                    httpMethod,
+                    path,
+                    handler,
+                    args,
+                    failure == null ? AuditEvent.SUCCESS : failure.getClass().getSimpleName(),
+                    (System.nanoTime() - startNanos) / 1_000_000,
+                    affected);
+        }
+    }
 }
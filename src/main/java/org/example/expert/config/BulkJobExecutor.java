@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 삭제처럼 되돌릴 수 없는 작업을 응답과 분리해 실행하는 전용 스레드풀.
+ * 응답 타임아웃이나 클라이언트 연결 끊김과 관계없이 작업은 끝까지 실행된다.
+ * 대기열이 가득 차면 응답을 쓰기 전에 503 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class BulkJobExecutor implements Executor {
+
+    @Value("${bulk-job.threads:2}")
+    private int threads = 2;
+    @Value("${bulk-job.queue-capacity:8}")
+    private int queueCapacity = 8;
+    // 종료 시 실행 중인 작업이 끝나기를 기다리는 최대 시간
+    @Value("${bulk-job.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds = 30;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "bulk-job-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 중간에 끊으면 일부만 지운 채 남으므로 인터럽트하지 않고 기다린다.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            log.warn("일괄 작업이 {}초 안에 끝나지 않았습니다. 남은 작업 수={}",
+                    shutdownTimeoutSeconds, executor.getActiveCount() + executor.getQueue().size());
+        }
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("진행 중인 일괄 작업이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.todo.service.TodoService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 조회가 많은 일정 단건과 댓글 첫 페이지를 캐시한다.
+ * 캐시 적용/무효화는 서비스의 @Cacheable, @CacheEvict 로만 하므로 저장소를 바꿔도 서비스 코드는 그대로다.
+ */
+@Configuration
+// 캐시가 트랜잭션보다 바깥에서 동작해야 캐시 적중 시 트랜잭션(커넥션)을 열지 않는다.
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String TODO = "todo";
+    public static final String COMMENTS_FIRST_PAGE = "commentsFirstPage";
+
+    @Value("${cache.todo.max-size:10000}")
+    private long todoMaxSize;
+    @Value("${cache.todo.ttl-seconds:300}")
+    private long todoTtlSeconds;
+    @Value("${cache.comments.max-size:10000}")
+    private long commentsMaxSize;
+    @Value("${cache.comments.ttl-seconds:60}")
+    private long commentsTtlSeconds;
+    // 0 보다 크면 이 시간이 지난 항목은 기존 값을 그대로 돌려주고 백그라운드에서 다시 읽는다. (stale-while-revalidate)
+    @Value("${cache.refresh-after-write-seconds:0}")
+    private long refreshAfterWriteSeconds;
+
+    // spring.cache.type 을 지정하면(예: redis) 이 빈 대신 Spring Boot 자동 설정의 CacheManager 를 쓴다.
+    // 갱신은 서비스의 트랜잭션 경계 안에서 다시 읽도록 서비스 빈을 통해 한다. (서비스가 CacheManager 에 의존하므로 지연 조회)
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager(ObjectProvider<TodoService> todoService, ObjectProvider<CommentService> commentService) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(TODO, build(todoMaxSize, todoTtlSeconds,
+                todoId -> todoService.getObject().reloadTodo((Long) todoId)));
+        cacheManager.registerCustomCache(COMMENTS_FIRST_PAGE, build(commentsMaxSize, commentsTtlSeconds,
+                todoId -> commentService.getObject().reloadFirstPage((Long) todoId)));
+        // 무효화는 커밋 이후에 해야 커밋 전 값을 다른 요청이 다시 캐시하지 않는다.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private Cache<Object, Object> build(long maxSize, long ttlSeconds, Function<Object, Object> reloader) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats();
+        if (refreshAfterWriteSeconds <= 0) {
+            return builder.build();
+        }
+        return builder.refreshAfterWrite(Duration.ofSeconds(refreshAfterWriteSeconds)).build(new RefreshOnlyLoader(reloader));
+    }
+
+    /**
+     * CaffeineCache 는 LoadingCache 면 조회 미스에도 load 를 부른다.
+     * 미스는 지금처럼 @Cacheable 메서드가 처리하도록 load 는 아무것도 읽지 않고, 갱신(reload)만 다시 읽는다.
+     * 다시 읽은 값이 null 이면(삭제된 일정) 항목을 지운다.
+     */
+    private static class RefreshOnlyLoader implements CacheLoader<Object, Object> {
+
+        private final Function<Object, Object> reloader;
+
+        RefreshOnlyLoader(Function<Object, Object> reloader) {
+            this.reloader = reloader;
+        }
+
+        @Override
+        public Object load(Object key) {
+            return null;
+        }
+
+        @Override
+        public Object reload(Object key, Object oldValue) {
+            return reloader.apply(key);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 JWT 의 claims 를 토큰 만료 시각까지 보관하는 캐시.
+ * 같은 토큰이 반복해서 들어오면 파싱과 HMAC 검증을 건너뛴다.
+ * 키는 토큰 원문 대신 SHA-256 digest 를 사용한다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final MessageDigest SHA_256_PROTOTYPE = newSha256();
+
+    private final Clock clock;
+    // 항목마다 exp 시각에 만료되고, 가득 차면 Caffeine 이 자주 쓰이지 않는 항목부터 내보낸다.
+    private final Cache<String, CachedClaims> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong verifyCount = new AtomicLong();
+    private final AtomicLong verifyNanos = new AtomicLong();
+
+    @Autowired
+    public JwtClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    JwtClaimsCache(int maxSize, Clock clock) {
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtExp())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                // 정리 작업을 호출한 스레드에서 바로 처리해 상한을 곧바로 지킨다.
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * 캐시된 claims 를 반환한다. 없거나 만료되었다면 null 을 반환하고, 호출자가 직접 검증해야 한다.
+     * 만료된 토큰은 다시 파싱되어 ExpiredJwtException 으로 처리된다.
+     */
+    public Claims get(String token) {
+        CachedClaims cached = entries.getIfPresent(digest(token));
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return cached.claims;
+    }
+
+    /**
+     * 검증된 claims 와 검증에 걸린 시간을 기록한다. exp 가 없거나 이미 지난 토큰은 캐시하지 않는다.
+     */
+    public void put(String token, Claims claims, long elapsedNanos) {
+        verifyCount.incrementAndGet();
+        verifyNanos.addAndGet(elapsedNanos);
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= clock.millis()) {
+            return;
+        }
+        entries.put(digest(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public long getVerifyCount() {
+        return verifyCount.get();
+    }
+
+    // 캐시에 없어 서명을 직접 검증한 시간의 합
+    public long getTotalVerifyNanos() {
+        return verifyNanos.get();
+    }
+
+    /**
+     * 캐시 적중으로 아낀 검증 시간 추정치. (평균 검증 시간 × 적중 횟수)
+     */
+    public long getEstimatedSavedNanos() {
+        long verified = verifyCount.get();
+        return verified == 0 ? 0L : verifyNanos.get() / verified * hitCount.get();
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    // getInstance 는 매번 provider 를 찾으므로, 만들어 둔 인스턴스를 복제해서 쓴다.
+    private static String digest(String token) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            messageDigest = newSha256();
+        }
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
+    }
+
+    private class ExpireAtExp implements Expiry<String, CachedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedClaims value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis - clock.millis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -18,7 +19,11 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // AuthUserArgumentResolver 가 꺼내 쓰는 request attribute 이름
+    public static final String AUTH_USER_ATTRIBUTE = "authUser";
+
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -48,18 +53,28 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            // JWT 유효성 검사와 claims 추출. 이미 검증된 토큰이면 캐시에서 꺼낸다.
+            Claims claims = jwtClaimsCache.get(jwt);
             if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
+                long start = System.nanoTime();
+                claims = jwtUtil.extractClaims(jwt);
+                if (claims == null) {
+                    httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                    return;
+                }
+                jwtClaimsCache.put(jwt, claims, System.nanoTime() - start);
             }
 
+            // 토큰에는 발급 시 넣은 이름이 그대로 들어 있어야 한다. 대소문자를 풀어 주는 UserRole.of 는 쓰지 않는다.
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            // userId, email, userRole 을 따로 담지 않고 AuthUser 하나로 만들어 한 번만 저장한다.
+            AuthUser authUser = new AuthUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    userRole
+            );
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
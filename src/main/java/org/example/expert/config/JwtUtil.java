@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,9 +13,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -23,29 +26,57 @@ public class JwtUtil {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    // 헤더는 항상 같으므로 한 번만 인코딩해둔다. (jjwt 가 만드는 헤더와 동일)
+    private static final String ENCODED_HEADER =
+            BASE64_URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // JwtParser 는 불변이고 thread-safe 하므로 하나만 만들어 재사용한다.
+    private JwtParser jwtParser;
+    // 초기화가 끝난 Mac 을 원본으로 두고 요청마다 clone 해서 사용한다.
+    private Mac macPrototype;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        try {
+            macPrototype = Mac.getInstance(signatureAlgorithm.getJcaName());
+            macPrototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 초기화할 수 없습니다.", e);
+        }
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
+        long now = System.currentTimeMillis();
+
+        // sub, email, userRole, exp, iat(발급일) 를 Jackson 없이 직접 직렬화한다.
+        StringBuilder payload = new StringBuilder(128)
+                .append("{\"sub\":\"").append(userId).append('"');
+        if (email != null) {
+            payload.append(",\"email\":");
+            appendJsonString(payload, email);
+        }
+        if (userRole != null) {
+            payload.append(",\"userRole\":\"").append(userRole.name()).append('"');
+        }
+        payload.append(",\"exp\":").append((now + TOKEN_TIME) / 1000)
+                .append(",\"iat\":").append(now / 1000)
+                .append('}');
+
+        String signingInput = ENCODED_HEADER + '.'
+                + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = newMac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        return BEARER_PREFIX + signingInput + '.' + BASE64_URL.encodeToString(signature);
     }
 
     public String substringToken(String tokenValue) {
@@ -56,10 +87,44 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    private Mac newMac() {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(signatureAlgorithm.getJcaName());
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("JWT 서명 키를 초기화할 수 없습니다.", ex);
+            }
+        }
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
 }
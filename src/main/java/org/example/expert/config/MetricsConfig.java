@@ -0,0 +1,138 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.expert.audit.AuditLogger;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.client.WeatherCircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 각 컴포넌트가 이미 세고 있는 값을 Micrometer 로 내보낸다.
+ * 라우트 템플릿/상태별 HTTP 요청(http.server.requests), 날씨 API 호출(http.client.requests),
+ * 리포지토리 호출(spring.data.repository.invocations) 타이머는 Spring Boot 가 기록하고, 여기서는 히스토그램만 켠다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> HISTOGRAM_TIMERS = List.of(
+            "http.server.requests", "http.client.requests", "spring.data.repository.invocations");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER && HISTOGRAM_TIMERS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jwtMetrics(JwtClaimsCache jwtClaimsCache) {
+        return registry -> {
+            // 캐시에 없어 서명을 직접 검증한 경우만 포함한다.
+            FunctionTimer.builder("jwt.verification", jwtClaimsCache,
+                            JwtClaimsCache::getVerifyCount, JwtClaimsCache::getTotalVerifyNanos, TimeUnit.NANOSECONDS)
+                    .register(registry);
+            FunctionCounter.builder("jwt.claims.cache", jwtClaimsCache, JwtClaimsCache::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jwt.claims.cache", jwtClaimsCache, JwtClaimsCache::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("jwt.claims.cache.size", jwtClaimsCache, JwtClaimsCache::size).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordEncoderMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            // 전용 스레드에서 해시/검증에 걸린 시간. 대기열에서 기다린 시간은 password.hash.queue 로 본다.
+            FunctionTimer.builder("password.hash", passwordEncoder,
+                            PasswordEncoder::getHashCount, PasswordEncoder::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .tag("cost", String.valueOf(passwordEncoder.getCost()))
+                    .register(registry);
+            FunctionCounter.builder("password.hash.rejected", passwordEncoder, PasswordEncoder::getRejectedCount)
+                    .register(registry);
+            Gauge.builder("password.hash.queue", passwordEncoder, PasswordEncoder::getQueueDepth).register(registry);
+            Gauge.builder("password.hash.active", passwordEncoder, PasswordEncoder::getActiveCount).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder weatherMetrics(WeatherClient weatherClient) {
+        WeatherCache weatherCache = weatherClient.getWeatherCache();
+        WeatherCircuitBreaker circuitBreaker = weatherClient.getCircuitBreaker();
+        return registry -> {
+            FunctionCounter.builder("weather.cache", weatherCache, WeatherCache::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("weather.cache", weatherCache, WeatherCache::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("weather.cache", weatherCache, WeatherCache::getStaleCount)
+                    .tag("result", "stale")
+                    .register(registry);
+            FunctionCounter.builder("weather.cache.refresh", weatherCache, WeatherCache::getRefreshCount)
+                    .register(registry);
+            FunctionCounter.builder("weather.circuit.rejected", circuitBreaker, WeatherCircuitBreaker::getRejectedCount)
+                    .register(registry);
+            // CLOSED=0, HALF_OPEN=1, OPEN=2
+            Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> switch (breaker.getState()) {
+                        case CLOSED -> 0;
+                        case HALF_OPEN -> 1;
+                        case OPEN -> 2;
+                    })
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder todoCountMetrics(TodoCountCache todoCountCache) {
+        // 아직 count 를 읽지 않았다면 NaN 으로 둔다. (수집 때문에 count 쿼리를 보내지 않는다)
+        return registry -> Gauge.builder("todo.count", todoCountCache,
+                        cache -> cache.peek() < 0 ? Double.NaN : cache.peek())
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder auditMetrics(AuditLogger auditLogger) {
+        return registry -> {
+            FunctionCounter.builder("audit.events.dropped", auditLogger, AuditLogger::getDroppedCount)
+                    .register(registry);
+            Gauge.builder("audit.events.pending", auditLogger, AuditLogger::getPendingCount).register(registry);
+        };
+    }
+
+    // Hibernate 2차 캐시(User) 적중률. JCache 아래의 Caffeine 캐시 통계를 읽는다.
+    // Spring Cache 의 cache.* 미터와 태그 이름이 같아야 Prometheus 가 한 미터로 받아준다.
+    @Bean
+    public MeterBinder userCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : List.of(User.CACHE_REGION, User.EMAIL_CACHE_REGION)) {
+                Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+                CaffeineCacheMetrics.monitor(registry, cache, region,
+                        "cache.manager", "hibernateCacheManager", "name", region);
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * producer 가 넘겨주는 객체를 한 줄에 하나씩(NDJSON) 응답에 바로 쓴다.
+ */
+@Slf4j
+public final class NdjsonResponse {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-ndjson";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private NdjsonResponse() {
+    }
+
+    // flushEachLine 이 true 면 줄마다 바로 내보낸다. (진행 상황처럼 클라이언트가 즉시 봐야 하는 경우)
+    public static <T> ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper, boolean flushEachLine,
+                                                               Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            producer.accept(item -> {
+                try {
+                    generator.writeObject(item);
+                    generator.writeRaw('\n');
+                    if (flushEachLine) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MEDIA_TYPE)
+                .body(body);
+    }
+
+    /**
+     * 일괄 삭제처럼 되돌릴 수 없는 작업을 executor 에서 바로 시작하고, 응답은 그 진행 상황을 줄마다 전달만 한다.
+     * 응답 타임아웃이나 클라이언트 연결 끊김은 전달만 멈추고 작업은 끝까지 실행된다.
+     * 작업이 실패하면 이미 200 을 보낸 뒤이므로 GlobalExceptionHandler 와 같은 모양의 오류 한 줄로 끝낸다.
+     *
+     * @param affected 진행 상황 한 줄에서 지금까지 처리한 누적 건수를 읽는다.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> progress(ObjectMapper objectMapper,
+                                                                     Executor executor,
+                                                                     ToLongFunction<T> affected,
+                                                                     Consumer<Consumer<T>> producer) {
+        ProgressBody<T> body = new ProgressBody<>(objectMapper);
+        executor.execute(() -> body.run(affected, producer));
+        return ResponseEntity.ok()
+                .contentType(MEDIA_TYPE)
+                .body(body);
+    }
+
+    /**
+     * 작업이 끝났을 때(성공이든 실패든) 누적 처리 건수와 실패 원인을 받는다.
+     */
+    @FunctionalInterface
+    public interface Completion {
+
+        void completed(long affected, Throwable failure);
+    }
+
+    public static final class ProgressBody<T> implements StreamingResponseBody {
+
+        // 작업이 끝났음을 전달 스레드에 알리는 표식
+        private static final Object END = new Object();
+
+        private final ObjectMapper objectMapper;
+        // 작업 스레드가 넣고 응답 스레드가 꺼낸다. 줄 수는 chunk 수만큼이라 크기를 제한하지 않는다.
+        private final BlockingQueue<Object> lines = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile long lastAffected;
+        private volatile Throwable failure;
+
+        private ProgressBody(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        // 이미 끝난 작업이면 등록하는 스레드에서 바로 호출된다.
+        public void onCompletion(Completion completion) {
+            done.whenComplete((ignored, e) -> completion.completed(lastAffected, failure));
+        }
+
+        private void run(ToLongFunction<T> affected, Consumer<Consumer<T>> producer) {
+            try {
+                producer.accept(item -> {
+                    lastAffected = affected.applyAsLong(item);
+                    lines.add(item);
+                });
+            } catch (RuntimeException | Error e) {
+                // 받아 줄 호출자가 없으므로 여기서 남긴다.
+                log.error("일괄 작업 실패. 처리한 수={}", lastAffected, e);
+                failure = e;
+            } finally {
+                lines.add(END);
+                done.complete(null);
+            }
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            // 줄 구분은 직접 넣으므로 루트 값 사이의 기본 구분자(공백)는 쓰지 않는다.
+            generator.setRootValueSeparator(null);
+            try {
+                Object line;
+                while ((line = lines.take()) != END) {
+                    if (!writeLine(generator, line)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // 응답 타임아웃. 전달만 멈춘다.
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (failure != null) {
+                writeLine(generator, errorLine(failure));
+            }
+        }
+
+        // 쓰기에 실패하면(클라이언트 연결 끊김) false 를 돌려준다.
+        private static boolean writeLine(JsonGenerator generator, Object item) {
+            try {
+                generator.writeObject(item);
+                generator.writeRaw('\n');
+                generator.flush();
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        // 요청 오류는 메시지를 그대로, 그 밖의 오류는 내부 메시지를 감춘다.
+        private static Map<String, Object> errorLine(Throwable failure) {
+            HttpStatus status = failure instanceof InvalidRequestException
+                    ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR;
+            String message = status == HttpStatus.BAD_REQUEST
+                    ? failure.getMessage() : "일괄 작업이 중간에 실패했습니다.";
+            Map<String, Object> errorResponse = new LinkedHashMap<>();
+            errorResponse.put("status", status.name());
+            errorResponse.put("code", status.value());
+            errorResponse.put("message", message);
+            return errorResponse;
+        }
+    }
+}
@@ -1,17 +1,145 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt 해시/검증을 요청 스레드가 아닌 전용 스레드풀에서 수행한다.
+ * 동시에 해시하는 개수와 대기열 길이를 제한하고, 대기열이 가득 차면 기다리지 않고 503 으로 거절한다.
+ */
 @Component
 public class PasswordEncoder {
 
+    @Value("${password.bcrypt.cost:4}")
+    private int cost = BCrypt.MIN_COST;
+    // 0 이면 CPU 코어 수만큼 사용한다.
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong hashNanos = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalStateException("password.bcrypt.cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다.");
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 true. 로그인 성공 시 새 cost 로 다시 해시하는 데 사용한다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        // $2a$10$... 형식에서 cost 는 4~5번째 글자다.
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public long getHashCount() {
+        return hashCount.get();
+    }
+
+    // 해시/검증에 걸린 시간의 합. (대기열에서 기다린 시간은 제외)
+    public long getTotalHashNanos() {
+        return hashNanos.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    hashNanos.addAndGet(System.nanoTime() - start);
+                    hashCount.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
     }
 }
@@ -1,9 +1,63 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    // insert/update 를 같은 테이블끼리 모아 JDBC batch 로 보낸다. spring.jpa.properties.hibernate.* 로 지정한 값이 있으면 그 값을 쓴다.
+    // (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 여러 행을 한 문장으로 보낸다)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 2차 캐시는 @Cache 가 붙은 엔티티만 쓴다. 지금은 User 하나로, 수정이 드물고 인증/담당자 처리마다 조회된다.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+
+    // provider 를 매번 새로 만들어 컨텍스트마다 별도의 CacheManager 를 쓴다. (Caching.getCachingProvider() 는 JVM 전역에서 공유된다)
+    @Bean
+    public CacheManager hibernateCacheManager(@Value("${user.cache.max-size:10000}") long maxSize,
+                                              @Value("${user.cache.ttl-minutes:30}") long ttlMinutes) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(User.CACHE_REGION, regionConfiguration(maxSize, ttlMinutes));
+        cacheManager.createCache(User.EMAIL_CACHE_REGION, regionConfiguration(maxSize, ttlMinutes));
+        return cacheManager;
+    }
+
+    // 적중률은 Caffeine 통계로 남기고 MetricsConfig 에서 내보낸다.
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, long ttlMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMinutes(ttlMinutes).toNanos()));
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
 }
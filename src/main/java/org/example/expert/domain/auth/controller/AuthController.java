@@ -1,11 +1,14 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.ratelimit.SigninRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final SigninRateLimiter signinRateLimiter;
 
     @PostMapping("/auth/signup")
     public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
@@ -23,7 +27,14 @@ public class AuthController {
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        // 프록시 뒤에 둘 때는 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 가 들어온다.
+        signinRateLimiter.acquire(request.getRemoteAddr(), signinRequest.getEmail());
+        try {
+            return authService.signin(signinRequest);
+        } catch (AuthException e) {
+            signinRateLimiter.recordFailure(signinRequest.getEmail());
+            throw e;
+        }
     }
 }
@@ -0,0 +1,108 @@
+package org.example.expert.domain.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 한 대 안에서 쓰는 토큰 버킷 저장소.
+ * 키 조회와 상한 유지는 Caffeine 에 맡기고, 버킷 갱신은 락 없이 CAS 로 한다.
+ * 한 주기(refillPeriod) 동안 쓰이지 않은 버킷은 가득 찬(= 없는 것과 같은) 상태이므로 만료시킨다.
+ * 키 개수가 maxKeys 를 넘으면 Caffeine 이 자주 쓰이지 않는 키부터 지운다. (지워진 키는 제한이 풀린 상태로 다시 시작한다)
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final LongSupplier nanoTime;
+    private final Cache<String, Bucket> buckets;
+
+    @Autowired
+    public InMemoryRateLimitStore(@Value("${rate-limit.max-keys:100000}") int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(int maxKeys, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new ExpireWhenRefilled())
+                .ticker(nanoTime::getAsLong)
+                // 만료와 상한 정리를 호출한 스레드에서 바로 한다. (정리 비용은 Caffeine 이 요청마다 나눠 치른다)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimit limit) {
+        long now = nanoTime.getAsLong();
+        Bucket bucket = buckets.get(key, k -> new Bucket(limit, now));
+        while (true) {
+            State current = bucket.state.get();
+            double tokens = bucket.tokensAt(current, now);
+            if (tokens < 1) {
+                return false;
+            }
+            if (bucket.state.compareAndSet(current, new State(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasToken(String key, RateLimit limit) {
+        Bucket bucket = buckets.getIfPresent(key);
+        return bucket == null || bucket.tokensAt(bucket.state.get(), nanoTime.getAsLong()) >= 1;
+    }
+
+    public int size() {
+        buckets.cleanUp();
+        return (int) buckets.estimatedSize();
+    }
+
+    private record State(double tokens, long updatedAtNanos) {
+    }
+
+    private static final class Bucket {
+
+        private final int capacity;
+        private final long refillNanos;
+        private final double tokensPerNano;
+        private final AtomicReference<State> state;
+
+        private Bucket(RateLimit limit, long now) {
+            this.capacity = limit.capacity();
+            this.refillNanos = limit.refillPeriod().toNanos();
+            this.tokensPerNano = (double) limit.capacity() / refillNanos;
+            this.state = new AtomicReference<>(new State(limit.capacity(), now));
+        }
+
+        private double tokensAt(State state, long now) {
+            return Math.min(capacity, state.tokens() + (now - state.updatedAtNanos()) * tokensPerNano);
+        }
+    }
+
+    // 마지막 접근 뒤 한 주기가 지나면 토큰이 몇 개 남았든 가득 차 있다.
+    private static final class ExpireWhenRefilled implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.refillNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.refillNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.refillNanos;
+        }
+    }
+}
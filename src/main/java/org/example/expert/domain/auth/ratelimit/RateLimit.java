@@ -0,0 +1,15 @@
+package org.example.expert.domain.auth.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 설정. 최대 capacity 개를 담고, refillPeriod 동안 capacity 개가 고르게 다시 채워진다.
+ */
+public record RateLimit(int capacity, Duration refillPeriod) {
+
+    public RateLimit {
+        if (capacity < 1 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("capacity 와 refillPeriod 는 0 보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.auth.ratelimit;
+
+/**
+ * 키별 토큰 버킷 저장소. 노드가 여러 대라면 공유 저장소(예: Redis) 구현으로 바꿔 끼운다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * 토큰을 하나 소비한다. 남은 토큰이 없으면 소비하지 않고 false 를 반환한다.
+     */
+    boolean tryConsume(String key, RateLimit limit);
+
+    /**
+     * 토큰을 소비하지 않고 남아 있는지만 본다. 처음 보는 키는 가득 찬 버킷과 같다.
+     */
+    boolean hasToken(String key, RateLimit limit);
+}
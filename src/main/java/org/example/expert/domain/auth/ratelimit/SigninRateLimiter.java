@@ -0,0 +1,51 @@
+package org.example.expert.domain.auth.ratelimit;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도를 클라이언트 IP 와 이메일 별로 제한한다.
+ * 조회 쿼리와 BCrypt 검증 전에 호출해야 크리덴셜 스터핑이 DB 와 CPU 까지 닿지 않는다.
+ * IP 는 시도마다, 이메일은 비밀번호가 틀렸을 때만 차감한다. 정상 사용자의 로그인이 자기 계정 한도를 쓰지 않게 하기 위해서다.
+ */
+@Component
+public class SigninRateLimiter {
+
+    private static final String IP_KEY_PREFIX = "signin:ip:";
+    private static final String EMAIL_KEY_PREFIX = "signin:email:";
+
+    private final RateLimitStore rateLimitStore;
+    private final RateLimit ipLimit;
+    private final RateLimit emailLimit;
+
+    public SigninRateLimiter(RateLimitStore rateLimitStore,
+                             @Value("${rate-limit.signin.ip.capacity:20}") int ipCapacity,
+                             @Value("${rate-limit.signin.ip.period-seconds:60}") long ipPeriodSeconds,
+                             @Value("${rate-limit.signin.email.capacity:5}") int emailCapacity,
+                             @Value("${rate-limit.signin.email.period-seconds:300}") long emailPeriodSeconds) {
+        this.rateLimitStore = rateLimitStore;
+        this.ipLimit = new RateLimit(ipCapacity, Duration.ofSeconds(ipPeriodSeconds));
+        this.emailLimit = new RateLimit(emailCapacity, Duration.ofSeconds(emailPeriodSeconds));
+    }
+
+    public void acquire(String clientIp, String email) {
+        // IP 에서 막히면 이메일 버킷은 건드리지 않는다. (남의 이메일로 요청을 보내 계정을 잠그는 것을 줄인다)
+        if (!rateLimitStore.tryConsume(IP_KEY_PREFIX + clientIp, ipLimit)
+                || !rateLimitStore.hasToken(emailKey(email), emailLimit)) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 확인과 차감 사이에 동시에 들어온 실패는 한도를 조금 넘길 수 있다. 넘친 만큼은 다음 확인에서 막힌다.
+    public void recordFailure(String email) {
+        rateLimitStore.tryConsume(emailKey(email), emailLimit);
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+    }
+}
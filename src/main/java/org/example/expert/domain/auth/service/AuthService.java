@@ -37,14 +37,15 @@ public class AuthService {
         }
 
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
-
+        // 거절될 요청이 BCrypt 비용을 치르지 않도록 값 검사와 중복 확인을 먼저 하고, 해시는 마지막에 한 번만 한다.
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
+        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+
         User newUser = new User(
                 signupRequest.getEmail(),
                 encodedPassword,
@@ -57,6 +58,7 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -66,6 +68,11 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인에 성공한 지금 새 cost 로 다시 저장한다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
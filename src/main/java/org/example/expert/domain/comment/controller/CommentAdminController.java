@@ -1,23 +1,68 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.annotation.Admin;
+import org.example.expert.config.BulkJobExecutor;
+import org.example.expert.config.NdjsonResponse;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentModerationProgress;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final ObjectMapper objectMapper;
+    private final BulkJobExecutor bulkJobExecutor;
+
     @Admin
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@Auth AuthUser authUser,
                               @PathVariable long commentId) {
         commentAdminService.deleteComment(authUser,commentId);
     }
+
+    // 아래 일괄 삭제는 BulkJobExecutor 에서 실행하고, chunk 가 커밋될 때마다 진행 상황을 한 줄(NDJSON)씩 전달한다.
+    // 응답이 타임아웃되거나 클라이언트가 연결을 끊어도 삭제는 끝까지 하고, 감사 기록은 삭제가 끝난 시점의 결과와 지운 수로 남는다.
+    @Admin
+    @PostMapping(value = "/admin/comments/bulk-delete", produces = NdjsonResponse.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> deleteComments(@Auth AuthUser authUser,
+                                                                @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return NdjsonResponse.progress(objectMapper, bulkJobExecutor, CommentModerationProgress::getTotalDeleted,
+                listener -> commentAdminService.deleteComments(authUser, commentBulkDeleteRequest.getCommentIds(), listener));
+    }
+
+    @Admin
+    @DeleteMapping(value = "/admin/users/{userId}/comments", produces = NdjsonResponse.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> deleteCommentsByUser(@Auth AuthUser authUser,
+                                                                      @PathVariable long userId) {
+        return NdjsonResponse.progress(objectMapper, bulkJobExecutor, CommentModerationProgress::getTotalDeleted,
+                listener -> commentAdminService.deleteCommentsByUser(authUser, userId, listener));
+    }
+
+    // 기간은 [from, to) 이다.
+    @Admin
+    @DeleteMapping(value = "/admin/todos/{todoId}/comments", produces = NdjsonResponse.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> deleteCommentsByTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        // 응답을 쓰기 시작한 뒤에는 400 으로 바꿀 수 없으므로 스트리밍 전에 검사한다.
+        commentAdminService.validatePeriod(from, to);
+        return NdjsonResponse.progress(objectMapper, bulkJobExecutor, CommentModerationProgress::getTotalDeleted,
+                listener -> commentAdminService.deleteCommentsByTodo(authUser, todoId, from, to, listener));
+    }
 }
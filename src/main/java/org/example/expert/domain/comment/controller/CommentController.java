@@ -1,15 +1,20 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.NdjsonResponse;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +23,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +34,30 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 여러 댓글을 한 번에 등록한다. (최대 CommentBatchSaveRequest.MAX_SIZE 건)
+    @PostMapping("/todos/{todoId}/comments/batch")
+    public ResponseEntity<List<CommentSaveResponse>> saveComments(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBatchSaveRequest commentBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveComments(authUser, todoId, commentBatchSaveRequest));
+    }
+
+    // 댓글 id 기준 커서 페이징. 다음 페이지는 응답의 nextCursor 를 그대로 넘겨 요청한다.
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CursorResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CommentService.CACHED_PAGE_SIZE_VALUE) int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
+    }
+
+    // 모든 댓글을 한 줄에 하나씩(NDJSON) 내려준다. 목록을 메모리에 모으지 않아 댓글 수와 관계없이 메모리 사용량이 일정하다.
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = NdjsonResponse.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        return NdjsonResponse.<CommentResponse>of(objectMapper, false,
+                writer -> commentService.streamComments(todoId, writer));
     }
 }
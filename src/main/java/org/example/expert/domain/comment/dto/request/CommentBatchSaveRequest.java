@@ -0,0 +1,23 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBatchSaveRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<CommentSaveRequest> comments;
+}
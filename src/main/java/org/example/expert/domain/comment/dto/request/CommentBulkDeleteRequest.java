@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    @NotEmpty
+    @Size(max = 10000)
+    private List<Long> commentIds;
+
+    // 감사 로그에는 id 목록 대신 개수만 남긴다.
+    @Override
+    public String toString() {
+        return "CommentBulkDeleteRequest(commentIds=" + (commentIds == null ? 0 : commentIds.size()) + " items)";
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+/**
+ * 일괄 삭제 진행 상황. chunk 하나가 커밋될 때마다 한 줄씩 내려가고, 마지막 줄은 done 이 true 다.
+ */
+@Getter
+public class CommentModerationProgress {
+
+    private final int chunk;
+    private final int deleted;
+    private final long totalDeleted;
+    private final boolean done;
+
+    public CommentModerationProgress(int chunk, int deleted, long totalDeleted, boolean done) {
+        this.chunk = chunk;
+        this.deleted = deleted;
+        this.totalDeleted = totalDeleted;
+        this.done = done;
+    }
+}
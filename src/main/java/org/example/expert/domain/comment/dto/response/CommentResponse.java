@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // JPQL constructor expression 용. 필요한 컬럼만 select 해서 엔티티 없이 바로 만든다.
+    public CommentResponse(Long id, String contents, Long userId, String email) {
+        this(id, contents, new UserResponse(userId, email));
+    }
 }
@@ -10,10 +10,16 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 일정별 댓글을 id 순으로 커서 페이징/스트리밍할 때 사용
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // batch insert 를 위해 Todo 와 같이 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     private String contents;
 
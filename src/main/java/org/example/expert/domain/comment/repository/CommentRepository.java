@@ -1,14 +1,62 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    String COMMENT_RESPONSE_SELECT = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u ";
+
+    // 커서 페이징: comments(todo_id, id) 인덱스를 따라 id 오름차순으로 읽는다.
+    @Query(COMMENT_RESPONSE_SELECT + "WHERE c.todo.id = :todoId ORDER BY c.id ASC")
+    List<CommentResponse> findFirstPage(@Param("todoId") Long todoId, Limit limit);
+
+    @Query(COMMENT_RESPONSE_SELECT + "WHERE c.todo.id = :todoId AND c.id > :id ORDER BY c.id ASC")
+    List<CommentResponse> findPageAfter(@Param("todoId") Long todoId, @Param("id") Long id, Limit limit);
+
+    // 전체를 List 로 모으지 않고 JDBC ResultSet 을 fetch size 단위로 읽는다. 트랜잭션 안에서 사용 후 반드시 close 해야 한다.
+    // (MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 가 적용된다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(COMMENT_RESPONSE_SELECT + "WHERE c.todo.id = :todoId ORDER BY c.id ASC")
+    Stream<CommentResponse> streamByTodoId(@Param("todoId") Long todoId);
+
+    // 일정 삭제 시 댓글 수와 관계없이 DELETE 한 번으로 지운다.
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
+
+    // 관리자 일괄 삭제용. 한 chunk 의 id 를 id 순으로 읽고, deleteAllByIdIn 으로 한 번에 지운다.
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId AND c.id > :afterId ORDER BY c.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT c.id FROM Comment c " +
+            "WHERE c.todo.id = :todoId AND c.createdAt >= :from AND c.createdAt < :to AND c.id > :afterId " +
+            "ORDER BY c.id ASC")
+    List<Long> findIdsByTodoIdAndCreatedAt(@Param("todoId") Long todoId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    // chunk 마다 별도 트랜잭션으로 커밋해 락을 짧게 잡는다.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
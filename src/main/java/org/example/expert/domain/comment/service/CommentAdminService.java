@@ -1,19 +1,108 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.comment.dto.response.CommentModerationProgress;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final CacheManager cacheManager;
+
+    // 한 번의 DELETE 로 지우는 최대 댓글 수
+    @Value("${comment.moderation.chunk-size:500}")
+    private int chunkSize;
 
+    // 엔티티를 읽지 않고 DELETE 한 번으로 지운다. 어느 일정의 댓글인지 모르므로 댓글 캐시는 전체를 비운다. (관리자 삭제는 드물다)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, allEntries = true)
     public void deleteComment(AuthUser authUser, long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.deleteAllByIdIn(List.of(commentId));
+    }
+
+    // 아래 일괄 삭제는 chunk 마다 커밋하고 진행 상황을 listener 로 알린다. 중간에 실패하면 앞선 chunk 는 이미 지워진 상태다.
+    // 그래서 캐시는 시작 전에 비우고(beforeInvocation), 삭제 중에 다시 채워진 페이지도 있으므로 끝나면 성공 여부와 관계없이 한 번 더 비운다.
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, allEntries = true, beforeInvocation = true)
+    public long deleteComments(AuthUser authUser, Collection<Long> commentIds, Consumer<CommentModerationProgress> listener) {
+        try {
+            List<Long> ids = commentIds.stream().distinct().toList();
+            long totalDeleted = 0;
+            int chunk = 0;
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                int deleted = commentRepository.deleteAllByIdIn(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                totalDeleted += deleted;
+                listener.accept(new CommentModerationProgress(++chunk, deleted, totalDeleted, false));
+            }
+            listener.accept(new CommentModerationProgress(chunk, 0, totalDeleted, true));
+            return totalDeleted;
+        } finally {
+            commentsFirstPage().clear();
+        }
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, allEntries = true, beforeInvocation = true)
+    public long deleteCommentsByUser(AuthUser authUser, long userId, Consumer<CommentModerationProgress> listener) {
+        try {
+            return deleteInChunks(afterId -> commentRepository.findIdsByUserId(userId, afterId, Limit.of(chunkSize)), listener);
+        } finally {
+            commentsFirstPage().clear();
+        }
+    }
+
+    // 한 일정의 댓글만 지우므로 그 일정의 캐시만 비운다.
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, key = "#todoId", beforeInvocation = true)
+    public long deleteCommentsByTodo(AuthUser authUser, long todoId, LocalDateTime from, LocalDateTime to,
+                                     Consumer<CommentModerationProgress> listener) {
+        validatePeriod(from, to);
+        try {
+            return deleteInChunks(afterId -> commentRepository.findIdsByTodoIdAndCreatedAt(
+                    todoId, from, to, afterId, Limit.of(chunkSize)), listener);
+        } finally {
+            commentsFirstPage().evict(todoId);
+        }
+    }
+
+    public void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("from 은 to 보다 이전이어야 합니다.");
+        }
+    }
+
+    private Cache commentsFirstPage() {
+        return cacheManager.getCache(CacheConfig.COMMENTS_FIRST_PAGE);
+    }
+
+    // 조건에 맞는 id 를 chunk 크기만큼 id 순으로 읽어 지운다. 마지막 id 이후부터 다시 읽으므로 같은 행을 두 번 보지 않는다.
+    private long deleteInChunks(LongFunction<List<Long>> nextIds, Consumer<CommentModerationProgress> listener) {
+        long totalDeleted = 0;
+        int chunk = 0;
+        long afterId = 0L;
+        List<Long> ids;
+        while (!(ids = nextIds.apply(afterId)).isEmpty()) {
+            int deleted = commentRepository.deleteAllByIdIn(ids);
+            totalDeleted += deleted;
+            afterId = ids.get(ids.size() - 1);
+            listener.accept(new CommentModerationProgress(++chunk, deleted, totalDeleted, false));
+        }
+        listener.accept(new CommentModerationProgress(chunk, 0, totalDeleted, true));
+        return totalDeleted;
     }
 }
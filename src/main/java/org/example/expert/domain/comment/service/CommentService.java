@@ -1,32 +1,45 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 캐시하는 페이지 크기. 컨트롤러의 기본 size 로도 쓴다. (@RequestParam 기본값은 문자열 상수여야 한다)
+    public static final int CACHED_PAGE_SIZE = 20;
+    public static final String CACHED_PAGE_SIZE_VALUE = "" + CACHED_PAGE_SIZE;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, key = "#todoId")
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         if(authUser==null) {
             throw new InvalidRequestException("user is null");
@@ -35,13 +48,15 @@ public class CommentService {
             throw new InvalidRequestException("comment Contents is null");
         }
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // FK 만 필요하므로 일정은 존재 여부만 확인하고 프록시로 연결한다.
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
                 user,
-                todo
+                todoRepository.getReferenceById(todoId)
         );
 
         Comment savedComment = commentRepository.save(newComment);
@@ -53,19 +68,87 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // 시퀀스로 id 를 미리 받아 두고 commit 시점에 batch_size 단위로 insert 를 묶어 보낸다.
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, key = "#todoId")
+    public List<CommentSaveResponse> saveComments(AuthUser authUser, long todoId, CommentBatchSaveRequest commentBatchSaveRequest) {
+        if(authUser==null) {
+            throw new InvalidRequestException("user is null");
+        }
+        User user = User.fromAuthUser(authUser);
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
+
+        List<Comment> newComments = new ArrayList<>(commentBatchSaveRequest.getComments().size());
+        for (CommentSaveRequest commentSaveRequest : commentBatchSaveRequest.getComments()) {
+            if(commentSaveRequest.getContents()==null) {
+                throw new InvalidRequestException("comment Contents is null");
+            }
+            newComments.add(new Comment(commentSaveRequest.getContents(), user, todo));
+        }
+
+        List<Comment> savedComments = commentRepository.saveAll(newComments);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<CommentSaveResponse> dtoList = new ArrayList<>(savedComments.size());
+        for (Comment savedComment : savedComments) {
+            dtoList.add(new CommentSaveResponse(savedComment.getId(), savedComment.getContents(), userResponse));
         }
         return dtoList;
     }
+
+    // 대부분의 요청인 기본 크기의 첫 페이지만 일정 id 로 캐시한다. 그래야 댓글 변경 시 일정 id 하나로 무효화할 수 있다.
+    @Cacheable(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, key = "#todoId",
+            condition = "(#cursor == null || #cursor.isEmpty()) && #size == T(org.example.expert.domain.comment.service.CommentService).CACHED_PAGE_SIZE")
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > CursorResponse.MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + CursorResponse.MAX_SIZE + " 이하여야 합니다.");
+        }
+        return readPage(todoId, cursor, size);
+    }
+
+    // 캐시 갱신(cache.refresh-after-write-seconds)용. getComments 가 캐시하는 첫 페이지를 캐시를 거치지 않고 다시 읽는다.
+    public CursorResponse<CommentResponse> reloadFirstPage(long todoId) {
+        return readPage(todoId, null, CACHED_PAGE_SIZE);
+    }
+
+    private CursorResponse<CommentResponse> readPage(long todoId, String cursor, int size) {
+        // 다음 페이지 존재 여부를 count 없이 알기 위해 한 건 더 읽는다.
+        Limit limit = Limit.of(size + 1);
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findFirstPage(todoId, limit);
+        } else {
+            comments = commentRepository.findPageAfter(todoId, decodeCursor(cursor), limit);
+        }
+        return toCursorResponse(comments, size);
+    }
+
+    /**
+     * size + 1 건 읽은 결과를 페이지로 자른다. 다음 페이지 cursor 는 마지막 댓글 id 다.
+     */
+    private static CursorResponse<CommentResponse> toCursorResponse(List<CommentResponse> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> content = hasNext ? comments.subList(0, size) : comments;
+
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+        return new CursorResponse<>(content, nextCursor);
+    }
+
+    // 댓글 수와 관계없이 한 건씩 읽어 바로 넘긴다. Stream 은 이 트랜잭션 안에서만 유효하다.
+    public void streamComments(long todoId, Consumer<CommentResponse> action) {
+        try (Stream<CommentResponse> comments = commentRepository.streamByTodoId(todoId)) {
+            comments.forEach(action);
+        }
+    }
+
+    private Long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+
+    // 한 번에 요청할 수 있는 최대 건수. 한 건을 더 읽어 다음 페이지 여부를 보므로 size + 1 이 넘치지 않게도 막는다.
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 넘겨주는 값. 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // JPQL constructor expression 용. 필요한 컬럼만 select 해서 엔티티 없이 바로 만든다.
+    public ManagerResponse(Long id, Long userId, String email) {
+        this(id, new UserResponse(userId, email));
+    }
 }
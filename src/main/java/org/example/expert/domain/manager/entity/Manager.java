@@ -9,10 +9,16 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        // 일정별 담당자 목록 조회용
+        @Index(name = "idx_managers_todo_id", columnList = "todo_id")
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // batch insert 를 위해 Todo 와 같이 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq")
+    @SequenceGenerator(name = "managers_seq", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,13 +1,30 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // todos 를 기준으로 담당자를 LEFT JOIN 해서 일정 존재 여부와 담당자 목록을 한 번에 읽는다.
+    // 일정이 없으면 결과가 비어 있고, 담당자가 없으면 id 가 null 인 행 하나만 돌아온다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN Manager m ON m.todo = t LEFT JOIN m.user u " +
+            "WHERE t.id = :todoId " +
+            "ORDER BY m.id ASC")
+    List<ManagerResponse> findManagerResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 엔티티를 읽지 않고 해당 일정에 속한 담당자일 때만 바로 삭제한다. 삭제된 행 수를 반환한다.
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId")
+    int deleteByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
@@ -8,7 +8,6 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -17,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -33,16 +31,10 @@ public class ManagerService {
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        // 일정 엔티티 대신 작성자 id 만 읽어 검증한다. (todos.user_id 는 not null 이다)
+        Long todoUserId = todoRepository.findUserIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-        //두 객체가 둘다 Null인지 확인하는 메서드이다. 둘다 null이면 true를 반환하지만
-        //둘 중에 하나가 null이 아니면 equal 메서드를 수행한다.
-        //기존 코드는 todo.getUser().getId() 였다 문제는 user가 null인경우에는 .getId()를 하는순가 NPE가 발생했다.
-        //때문에 todo.getUser()가 null인지를 확인하는 코드로 수정하면 정상적으로 작동한다.
-        if (todo.getUser()==(null)) {
-            throw new InvalidRequestException("일정에 담당자가 존재하지 않습니다.");
-        }
-        if (!ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), todoUserId)) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 아닙니다.");
         }
 
@@ -53,7 +45,8 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // FK 만 필요하므로 일정은 select 없이 프록시로 연결한다.
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
@@ -63,43 +56,31 @@ public class ManagerService {
     }
 
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        List<ManagerResponse> rows = managerRepository.findManagerResponsesByTodoId(todoId);
+        if (rows.isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        // 담당자가 없는 일정은 LEFT JOIN 결과로 id 가 null 인 행 하나만 돌아온다.
+        if (rows.get(0).getId() == null) {
+            return List.of();
         }
-        return dtoList;
+        return rows;
     }
 
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
-        User user = userRepository.findById(authUser.getId())
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
+        Long todoUserId = todoRepository.findUserIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-        if (todo.getUser()==(null)) {
-            throw new InvalidRequestException("일정에 담당자가 존재하지 않습니다.");
-        }
-        if (!ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todoUserId)) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        if (managerRepository.deleteByIdAndTodoId(managerId, todoId) == 0) {
+            // 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회한다.
+            if (!managerRepository.existsById(managerId)) {
+                throw new InvalidRequestException("Manager not found");
+            }
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
-
-        managerRepository.delete(manager);
     }
 }
@@ -4,11 +4,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.TodoTotalMode;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,12 +28,23 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // withTotal=exact(기본, count 쿼리) | approx(메모리 근사치) | none(total 은 null)
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<TodoPageResponse> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String withTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, TodoTotalMode.of(withTotal)));
+    }
+
+    // 깊은 페이지도 첫 페이지와 같은 비용으로 읽는 커서 방식. 전체 개수는 내려주지 않는다.
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서. 마지막으로 받은 일정의 (modifiedAt, id) 를 담아
+ * 클라이언트에는 내용을 알 수 없는 문자열로 내려준다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        // DB 컬럼 정밀도(마이크로초)에 맞춰야 경계의 일정이 중복되거나 빠지지 않는다.
+        this.modifiedAt = modifiedAt.truncatedTo(ChronoUnit.MICROS);
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * 일정 목록의 전체 개수 계산 방식.
+ * EXACT: count 쿼리 실행, APPROX: 메모리에 유지하는 개수 사용, NONE: 개수 없이 다음 페이지 여부만 반환
+ */
+public enum TodoTotalMode {
+    EXACT, APPROX, NONE;
+
+    public static TodoTotalMode of(String mode) {
+        try {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidRequestException("withTotal 은 exact, approx, none 중 하나여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 일정 목록 응답. withTotal 값과 관계없이 같은 모양으로 내려준다.
+ */
+@Getter
+public class TodoPageResponse {
+
+    private final List<TodoResponse> content;
+    private final int page; // 1부터 시작
+    private final int size;
+    private final boolean hasNext;
+    private final Long total; // withTotal=none 이면 null
+
+    public TodoPageResponse(List<TodoResponse> content, int page, int size, boolean hasNext, Long total) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    public static TodoPageResponse of(Slice<TodoResponse> todos, Long total) {
+        return new TodoPageResponse(todos.getContent(), todos.getNumber() + 1, todos.getSize(), todos.hasNext(), total);
+    }
+}
@@ -14,10 +14,18 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 목록 조회(최근 수정순)와 커서 페이징용
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 를 바로 실행해야 해서 JDBC batch 가 꺼진다. 시퀀스에서 50개씩 미리 받아 쓴다.
+    // (MySQL 처럼 시퀀스가 없는 DB 에서는 Hibernate 가 todos_seq 테이블로 대신한다)
+    // 기존 데이터가 있는 스키마는 시퀀스를 MAX(id) 기준으로 먼저 맞춰야 한다. (README 의 id 시퀀스 항목, Comment/Manager 도 같다)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
@@ -27,7 +35,8 @@ public class Todo extends Timestamped {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 댓글을 하나씩 읽어 지우지 않도록 cascade 를 두지 않는다. 일정 삭제는 TodoAdminService 의 bulk delete 로 처리한다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
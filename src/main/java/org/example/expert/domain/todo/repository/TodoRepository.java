@@ -1,23 +1,57 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회용 쿼리는 엔티티 대신 응답에 필요한 컬럼만 읽어 TodoResponse 로 바로 만든다.
+    // (users.password 등 불필요한 컬럼을 읽지 않고, 영속성 컨텍스트 스냅샷도 만들지 않는다)
+    String TODO_RESPONSE_SELECT = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // count 는 join 없이 todos 테이블만 센다. (user_id 는 not null 이라 결과는 같다)
+    @Query(value = TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // count 쿼리 없이 size + 1 건만 읽어 다음 페이지 여부를 판단한다.
+    @Query(TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    // 커서 페이징: todos(modified_at, id) 인덱스를 따라 읽고, count 쿼리는 실행하지 않는다.
+    @Query(TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPage(Limit limit);
+
+    @Query(TODO_RESPONSE_SELECT +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Limit limit);
+
+    @Query(TODO_RESPONSE_SELECT + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    // 작성자 검증만 필요한 쓰기 경로용. user_id FK 컬럼만 읽고 todos/users 엔티티는 만들지 않는다.
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 엔티티를 읽지 않고 바로 지운다. 댓글/담당자는 먼저 지워야 한다.
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteTodoById(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoCountCache todoCountCache;
+
+    // 댓글/담당자를 엔티티로 읽지 않고 todo_id 조건의 DELETE 로 지운다. 댓글 수와 관계없이 DELETE 세 번이다.
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TODO, key = "#todoId"),
+            @CacheEvict(cacheNames = CacheConfig.COMMENTS_FIRST_PAGE, key = "#todoId")
+    })
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        commentRepository.deleteAllByTodoId(todoId);
+        managerRepository.deleteAllByTodoId(todoId);
+        if (todoRepository.deleteTodoById(todoId) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        todoCountCache.decrement();
+    }
+}
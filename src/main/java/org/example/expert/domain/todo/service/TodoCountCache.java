@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 전체 개수를 메모리에 유지한다. 처음 한 번과 주기적인 재동기화 때만 count 쿼리를 실행하고,
+ * 그 사이에는 저장/삭제 시점에 증감시킨다. 여러 노드에서는 노드별로 조금씩 어긋날 수 있는 근사치다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+
+    public long get() {
+        long current = count.get();
+        if (current != NOT_LOADED) {
+            return current;
+        }
+        long loaded = todoRepository.count();
+        count.compareAndSet(NOT_LOADED, loaded);
+        return count.get();
+    }
+
+    /**
+     * count 쿼리 없이 현재 값만 본다. 아직 읽은 적이 없으면 -1 이다.
+     */
+    public long peek() {
+        return count.get();
+    }
+
+    /**
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 반영한다. 롤백되면 반영하지 않는다.
+     */
+    public void increment() {
+        afterCommit(() -> count.updateAndGet(current -> current == NOT_LOADED ? NOT_LOADED : current + 1));
+    }
+
+    /**
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 반영한다. 롤백되면 반영하지 않는다.
+     */
+    public void decrement() {
+        afterCommit(() -> count.updateAndGet(current -> current == NOT_LOADED ? NOT_LOADED : Math.max(0, current - 1)));
+    }
+
+    // 다른 노드에서의 변경이나 누락된 증감을 주기적으로 바로잡는다.
+    // count 쿼리 도중에 이 노드에서 증감이 있었다면 쿼리 결과가 그 증감을 포함하는지 알 수 없으므로 덮어쓰지 않고 다음 주기로 미룬다.
+    @Scheduled(fixedDelayString = "${todo.count.resync-interval-ms:300000}")
+    public void resync() {
+        long before = count.get();
+        if (before == NOT_LOADED) {
+            return;
+        }
+        long actual = todoRepository.count();
+        if (!count.compareAndSet(before, actual)) {
+            log.debug("일정 수 재동기화 중 증감이 있어 다음 주기로 미룹니다. before={}, actual={}", before, actual);
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -2,21 +2,32 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoTotalMode;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,8 +35,11 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
 
-    @Transactional
+    // 날씨 조회(외부 HTTP 호출)가 DB 커넥션을 잡은 채로 일어나지 않도록 트랜잭션 밖에서 먼저 수행하고,
+    // insert 는 todoRepository.save() 의 짧은 트랜잭션에서만 처리한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -38,6 +52,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountCache.increment();
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,34 +66,58 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findTodoResponses(pageable);
     }
 
+    public TodoPageResponse getTodos(int page, int size, TodoTotalMode totalMode) {
+        if (totalMode == TodoTotalMode.EXACT) {
+            Page<TodoResponse> todos = getTodos(page, size);
+            return TodoPageResponse.of(todos, todos.getTotalElements());
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+        Slice<TodoResponse> todos = todoRepository.findTodoResponseSlice(pageable);
+
+        // 다음 페이지 여부는 근사치가 아니라 size + 1 건 조회 결과로 판단한다.
+        Long total = totalMode == TodoTotalMode.APPROX ? todoCountCache.get() : null;
+        return TodoPageResponse.of(todos, total);
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > CursorResponse.MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + CursorResponse.MAX_SIZE + " 이하여야 합니다.");
+        }
+        // 다음 페이지 존재 여부를 count 없이 알기 위해 한 건 더 읽는다.
+        Limit limit = Limit.of(size + 1);
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isEmpty()) {
+            todos = todoRepository.findFirstPage(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findPageAfter(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor);
+    }
+
+    // 없는 일정은 예외로 끝나므로 캐시되지 않는다.
+    @Cacheable(cacheNames = CacheConfig.TODO, key = "#todoId")
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return todoRepository.findTodoResponseById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    // 캐시 갱신(cache.refresh-after-write-seconds)용. 캐시를 거치지 않고 다시 읽고, 삭제된 일정이면 null 이다.
+    public TodoResponse reloadTodo(long todoId) {
+        return todoRepository.findTodoResponseById(todoId).orElse(null);
     }
 
     public void todoSaveRequestIsOk(TodoSaveRequest todoSaveRequest,String weather) {
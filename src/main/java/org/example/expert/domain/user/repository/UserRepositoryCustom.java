@@ -0,0 +1,13 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 이메일(natural id)로 조회한다. 2차 캐시에 있으면 쿼리를 보내지 않는다.
+     */
+    Optional<User> findByEmail(String email);
+}
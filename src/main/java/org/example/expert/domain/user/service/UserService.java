@@ -10,11 +10,17 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.regex.Pattern;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    // 호출마다 정규식을 컴파일하지 않도록 미리 만들어 둔다.
+    private static final Pattern DIGIT = Pattern.compile("\\d");
+    private static final Pattern UPPER_CASE = Pattern.compile("[A-Z]");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -29,13 +35,15 @@ public class UserService {
         String NewPassword = userChangePasswordRequest.getNewPassword();
         isItRightPassword(NewPassword);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        // 기존 비밀번호가 맞다면 저장된 해시는 oldPassword 의 해시이므로, 새 비밀번호가 기존과 같은지는
+        // 해시 비교 대신 두 입력값을 비교해 BCrypt 없이 먼저 거절한다.
+        if (NewPassword.equals(userChangePasswordRequest.getOldPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
@@ -45,8 +53,8 @@ public class UserService {
 
     public void isItRightPassword(String password) {
         if (password.length() < 8 ||
-                !password.matches(".*\\d.*") ||
-                !password.matches(".*[A-Z].*")) {
+                !DIGIT.matcher(password).find() ||
+                !UPPER_CASE.matcher(password).find()) {
             throw new InvalidRequestException("새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
         }
     }
@@ -0,0 +1,150 @@
+package org.example.expert;
+
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 경로에서 블로킹되는 구간(날씨 API 호출과 그 갱신 락, BCrypt 작업 대기)을 가상 스레드로 동시에 실행하고,
+ * 캐리어 스레드에 고정된 채 멈춘 경우(JFR jdk.VirtualThreadPinned)가 없는지 확인한다.
+ * Java 21 이상에서만 실행된다. (./gradlew test -PvirtualThreads)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    // BCrypt 대기열(password.hashing.queue-capacity 기본 64)을 넘지 않는 수
+    private static final int TASKS = 50;
+    private static final String PASSWORD = "Password1";
+
+    @TempDir
+    private Path tempDir;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WeatherClient weatherClient;
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        weatherClient = new WeatherClient(new RestTemplateBuilder(),
+                "http://127.0.0.1:" + server.getAddress().getPort(), 1_000, 2_000, 3, 30_000,
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        passwordEncoder = new PasswordEncoder();
+        passwordEncoder.init();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+        // 처음 로딩되는 클래스의 초기화 대기는 제외하도록 플랫폼 스레드에서 한 번씩 실행해 둔다.
+        weatherClient.refresh();
+        assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        weatherClient.shutdown();
+        passwordEncoder.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        serverExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 요청_경로의_블로킹_구간에서_가상_스레드가_고정되지_않는다() throws Exception {
+        // given
+        Path jfrFile = tempDir.resolve("pinning.jfr");
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-test-");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            List<Future<?>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                boolean refresh = i % 10 == 0;
+                futures.add(executor.submit(() -> {
+                    // 갱신은 락을 쥔 채 원격 호출을 기다리고, 나머지 요청은 그 락을 기다린다.
+                    if (refresh) {
+                        weatherClient.refresh();
+                    }
+                    assertEquals("Sunny", weatherClient.getTodayWeather());
+                    assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            recording.stop();
+            recording.dump(jfrFile);
+        }
+
+        // then
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(jfrFile);
+        assertTrue(pinned.isEmpty(), () -> "가상 스레드 고정 발생:\n" + pinned.stream()
+                .map(VirtualThreadPinningTest::topFrames)
+                .distinct()
+                .collect(Collectors.joining("\n---\n")));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.toString();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(15)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
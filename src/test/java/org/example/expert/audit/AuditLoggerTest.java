@@ -0,0 +1,118 @@
+package org.example.expert.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLoggerTest {
+
+    private AuditLogger auditLogger;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (auditLogger != null) {
+            auditLogger.stop();
+        }
+    }
+
+    @Test
+    void 기록은_writer_스레드가_배치로_저장한다() {
+        // given
+        List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+        auditLogger = new AuditLogger(new RecordingSink(batches, null), 64, 10, 10);
+        auditLogger.start();
+
+        // when
+        for (int i = 0; i < 25; i++) {
+            auditLogger.record(event(Instant.now(), i));
+        }
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> batches.stream().mapToInt(List::size).sum() == 25);
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertEquals(0, auditLogger.getDroppedCount());
+    }
+
+    @Test
+    void 저장이_느려도_기록은_기다리지_않고_넘치는_만큼_버린다() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+        auditLogger = new AuditLogger(new RecordingSink(batches, release), 8, 1, 1);
+        auditLogger.start();
+
+        // when (첫 기록을 쓰는 동안 writer 가 멈춰 있다)
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            auditLogger.record(event(Instant.now(), i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 1000);
+        assertTrue(auditLogger.getDroppedCount() >= 100 - 8 - 1);
+        auditLogger.stop();
+        assertEquals(100 - auditLogger.getDroppedCount(), batches.stream().mapToInt(List::size).sum());
+        auditLogger = null;
+    }
+
+    @Test
+    void 파일은_기록_시각의_날짜별로_나뉜다(@TempDir Path directory) throws Exception {
+        // given
+        Instant firstDay = Instant.parse("2024-01-01T23:59:59Z");
+        Instant secondDay = Instant.parse("2024-01-02T00:00:01Z");
+
+        // when
+        try (RollingFileAuditSink sink = new RollingFileAuditSink(directory, ZoneOffset.UTC)) {
+            sink.write(List.of(event(firstDay, 1), event(secondDay, 2)));
+        }
+
+        // then
+        List<String> first = Files.readAllLines(RollingFileAuditSink.fileFor(directory, LocalDate.of(2024, 1, 1)));
+        List<String> second = Files.readAllLines(RollingFileAuditSink.fileFor(directory, LocalDate.of(2024, 1, 2)));
+        assertEquals(1, first.size());
+        assertTrue(first.get(0).contains("\"occurredAt\":\"2024-01-01T23:59:59Z\""));
+        assertTrue(first.get(0).contains("\"userId\":1"));
+        assertEquals(1, second.size());
+        assertTrue(second.get(0).contains("\"path\":\"/admin/comments/2\""));
+    }
+
+    private static AuditEvent event(Instant occurredAt, long userId) {
+        return new AuditEvent(occurredAt, userId, "DELETE", "/admin/comments/" + userId,
+                "CommentAdminController.deleteComment(..)", "[" + userId + "]", AuditEvent.SUCCESS, 1, null);
+    }
+
+    private record RecordingSink(List<List<AuditEvent>> batches, CountDownLatch release) implements AuditEventSink {
+
+        @Override
+        public void write(List<AuditEvent> events) {
+            batches.add(List.copyOf(events));
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 넣은_순서대로_꺼내고_가득_차면_버린_개수를_센다() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // when
+        int count = buffer.drain(drained::add, 10);
+
+        // then
+        assertEquals(4, count);
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertEquals(2, buffer.getDroppedCount());
+        assertTrue(buffer.offer(6));
+    }
+
+    @Test
+    void 꺼낸_자리는_다시_쓸_수_있다() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(2);
+        List<Integer> drained = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(i));
+            buffer.drain(drained::add, 1);
+        }
+
+        // then
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drained);
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test
+    void capacity_는_2의_거듭제곱이어야_한다() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer<>(100));
+    }
+
+    @Test
+    void 여러_스레드가_넣어도_넣은_만큼_꺼내거나_버린다() throws InterruptedException {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(256);
+        int producers = 8;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(i);
+                }
+            });
+        }
+
+        // when
+        long[] drained = new long[1];
+        start.countDown();
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            drained[0] += buffer.drain(element -> { }, 64);
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        drained[0] += buffer.drain(element -> { }, Integer.MAX_VALUE);
+
+        // then
+        assertEquals((long) producers * perProducer, drained[0] + buffer.getDroppedCount());
+        assertEquals(0, buffer.size());
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_JSON =
+            "[{\"date\":\"10-18\",\"weather\":\"Sunny\"},{\"date\":\"10-19\",\"weather\":\"Rainy\"}]";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicInteger responseDelayMs = new AtomicInteger();
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-10-18T03:00:00Z"));
+
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(responseDelayMs.get());
+            byte[] body = WEATHER_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus.get(), body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        weatherClient = new WeatherClient(
+                new RestTemplateBuilder(),
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                Duration.ofMillis(200),
+                Duration.ofMillis(200),
+                2,
+                Duration.ofSeconds(30),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        weatherClient.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨_문서는_여러번_조회해도_한번만_가져온다() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Sunny", weatherClient.getTodayWeather());
+        }
+
+        // then
+        assertEquals(1, requestCount.get());
+        WeatherCache cache = weatherClient.getWeatherCache();
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(99, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void 스케줄_갱신_후에는_원격_호출_없이_캐시에서_응답한다() {
+        // given
+        weatherClient.refresh();
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1, requestCount.get());
+        assertEquals(1, weatherClient.getWeatherCache().getHitCount());
+        assertEquals(0, weatherClient.getWeatherCache().getMissCount());
+    }
+
+    @Test
+    void 응답이_느리면_read_timeout_이후_Unknown_으로_응답한다() {
+        // given
+        responseDelayMs.set(2_000);
+
+        // when
+        long start = System.nanoTime();
+        String weather = weatherClient.getTodayWeather();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, weather);
+        assertTrue(elapsedMs < 1_500, "elapsed=" + elapsedMs);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열리고_원격_호출없이_Unknown_으로_응답한다() {
+        // given
+        responseStatus.set(500);
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, weatherClient.getTodayWeather());
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, weatherClient.getTodayWeather());
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, weather);
+        assertEquals(WeatherCircuitBreaker.State.OPEN, weatherClient.getCircuitBreaker().getState());
+        assertEquals(1, weatherClient.getCircuitBreaker().getRejectedCount());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 자정이_지나고_서킷이_열려_있으며_지난_문서에도_오늘_값이_없으면_Unknown_으로_응답한다() {
+        // given
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        responseStatus.set(500);
+        now.set(Instant.parse("2026-10-20T03:00:00Z"));
+        weatherClient.refresh();
+        weatherClient.refresh();
+        assertEquals(WeatherCircuitBreaker.State.OPEN, weatherClient.getCircuitBreaker().getState());
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, weather);
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    void 서킷이_다시_닫히면_Unknown_대신_실제_날씨로_응답한다() {
+        // given
+        responseStatus.set(500);
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        responseStatus.set(200);
+
+        // when
+        String whileOpen = weatherClient.getTodayWeather();
+        now.set(now.get().plusSeconds(30));
+        String afterOpen = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, whileOpen);
+        assertEquals("Sunny", afterOpen);
+        assertEquals(WeatherCircuitBreaker.State.CLOSED, weatherClient.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void 갱신이_실패해도_마지막으로_받은_문서의_값으로_응답한다() {
+        // given
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        responseStatus.set(500);
+        now.set(Instant.parse("2026-10-19T03:00:00Z"));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+        assertEquals(1, weatherClient.getWeatherCache().getStaleCount());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActuatorDefaultsEnvironmentPostProcessorTest {
+
+    private final ActuatorDefaultsEnvironmentPostProcessor postProcessor = new ActuatorDefaultsEnvironmentPostProcessor();
+
+    @Test
+    void 지정하지_않은_키에는_actuator_기본값을_넣는다() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+
+        // when
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // then
+        assertEquals("8081", environment.getProperty("management.server.port"));
+        assertEquals("127.0.0.1", environment.getProperty("management.server.address"));
+        assertEquals("health,metrics,prometheus", environment.getProperty("management.endpoints.web.exposure.include"));
+    }
+
+    @Test
+    void 이미_지정한_키는_덮어쓰지_않는다() {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty("management.server.port", "9090");
+
+        // when
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // then
+        assertEquals("9090", environment.getProperty("management.server.port"));
+        assertEquals("127.0.0.1", environment.getProperty("management.server.address"));
+    }
+
+    @Test
+    void SpringApplicationBuilder_로_띄워도_기본값이_걸리고_기본_속성이_우선한다() {
+        // when
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmptyConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties("management.server.port=0")
+                .run()) {
+
+            // then
+            assertEquals("0", context.getEnvironment().getProperty("management.server.port"));
+            assertEquals("127.0.0.1", context.getEnvironment().getProperty("management.server.address"));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class EmptyConfiguration {
+    }
+}
@@ -0,0 +1,247 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.annotation.Admin;
+import org.example.expert.audit.AuditEvent;
+import org.example.expert.audit.AuditLogger;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AspectAdminTest {
+
+    private static final AuthUser ADMIN = new AuthUser(1L, "admin@a.com", UserRole.ADMIN);
+
+    private final AuditLogger auditLogger = mock(AuditLogger.class);
+    private final AtomicInteger producedChunks = new AtomicInteger();
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+    // 각 chunk 를 내보낸 직후 작업 스레드에서 호출된다.
+    private volatile IntConsumer afterChunk = chunk -> {
+    };
+    private ModerationController controller;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/comments/bulk-delete");
+        request.setServletPath("/admin/comments/bulk-delete");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ModerationController(jobExecutor, producedChunks, chunk -> afterChunk.accept(chunk)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AspectAdmin(auditLogger));
+        controller = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        RequestContextHolder.resetRequestAttributes();
+        jobExecutor.shutdownNow();
+        jobExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 삭제가_중간에_실패하면_오류_줄로_끝내고_실패와_그때까지_지운_수를_기록한다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        controller.deleteComments(ADMIN, 3, true).getBody().writeTo(output);
+
+        // then
+        AuditEvent event = recordedEvent();
+        assertEquals("IllegalStateException", event.outcome());
+        assertEquals(1_000, event.affected());
+        assertEquals("/admin/comments/bulk-delete", event.path());
+        assertEquals(1L, event.userId());
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(List.of("500", "1000"), lines.subList(0, 2));
+        assertTrue(lines.get(2).contains("\"code\":500"), lines.get(2));
+    }
+
+    @Test
+    void 처음부터_연결이_끊겨_있어도_삭제를_끝까지_하고_성공으로_기록한다() throws IOException {
+        // given
+        StreamingResponseBody body = controller.deleteComments(ADMIN, 3, false).getBody();
+
+        // when
+        body.writeTo(new BrokenAfterLines(0));
+
+        // then
+        AuditEvent event = recordedEvent();
+        assertEquals(3, producedChunks.get());
+        assertEquals(AuditEvent.SUCCESS, event.outcome());
+        assertEquals(1_500, event.affected());
+    }
+
+    @Test
+    void 스트리밍_중간에_연결이_끊기면_전달만_멈추고_삭제는_응답과_별개로_끝난다() throws Exception {
+        // given (두 번째 줄부터 쓰기에 실패하고, 세 번째 chunk 는 응답이 끝난 뒤에 지운다)
+        BrokenAfterLines client = new BrokenAfterLines(1);
+        CountDownLatch responseFinished = new CountDownLatch(1);
+        afterChunk = chunk -> {
+            if (chunk == 2) {
+                await(responseFinished);
+            }
+        };
+        StreamingResponseBody body = controller.deleteComments(ADMIN, 3, false).getBody();
+
+        // when
+        body.writeTo(client);
+        verify(auditLogger, never()).record(any());
+        responseFinished.countDown();
+
+        // then
+        AuditEvent event = recordedEvent();
+        assertEquals("500\n", client.written());
+        assertEquals(3, producedChunks.get());
+        assertEquals(AuditEvent.SUCCESS, event.outcome());
+        assertEquals(1_500, event.affected());
+    }
+
+    @Test
+    void 응답이_타임아웃으로_중단돼도_삭제는_끝까지_한다() throws Exception {
+        // given
+        CountDownLatch timedOut = new CountDownLatch(1);
+        afterChunk = chunk -> {
+            if (chunk == 1) {
+                await(timedOut);
+            }
+        };
+        StreamingResponseBody body = controller.deleteComments(ADMIN, 3, false).getBody();
+        Thread responseThread = new Thread(() -> {
+            try {
+                body.writeTo(new ByteArrayOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        responseThread.start();
+
+        // when (MVC 비동기 타임아웃은 응답 스레드를 인터럽트한다)
+        responseThread.interrupt();
+        responseThread.join(5_000);
+        timedOut.countDown();
+
+        // then
+        assertFalse(responseThread.isAlive());
+        AuditEvent event = recordedEvent();
+        assertEquals(AuditEvent.SUCCESS, event.outcome());
+        assertEquals(1_500, event.affected());
+    }
+
+    @Test
+    void 스트리밍이_아닌_관리자_API_는_반환할_때_기록한다() {
+        // when
+        controller.deleteComment(ADMIN, 10L);
+
+        // then
+        AuditEvent event = recordedEvent();
+        assertEquals(AuditEvent.SUCCESS, event.outcome());
+        assertEquals("[10]", event.args());
+        assertNull(event.affected());
+    }
+
+    // 삭제는 작업 스레드에서 끝나므로 기록될 때까지 기다린다.
+    private AuditEvent recordedEvent() {
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogger, timeout(5_000)).record(captor.capture());
+        return captor.getValue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 앞의 몇 줄만 받고 그 뒤로는 연결이 끊긴 것처럼 쓰기에 실패한다.
+    private static class BrokenAfterLines extends OutputStream {
+
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private int remainingLines;
+
+        BrokenAfterLines(int lines) {
+            this.remainingLines = lines;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (remainingLines == 0) {
+                throw new IOException("Broken pipe");
+            }
+            received.write(b);
+            if (b == '\n') {
+                remainingLines--;
+            }
+        }
+
+        String written() {
+            return received.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    static class ModerationController {
+
+        private static final int CHUNK_SIZE = 500;
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final Executor executor;
+        private final AtomicInteger producedChunks;
+        private final IntConsumer afterChunk;
+
+        ModerationController(Executor executor, AtomicInteger producedChunks, IntConsumer afterChunk) {
+            this.executor = executor;
+            this.producedChunks = producedChunks;
+            this.afterChunk = afterChunk;
+        }
+
+        @Admin
+        public void deleteComment(AuthUser authUser, long commentId) {
+        }
+
+        // chunk 마다 누적 삭제 수를 내보낸다. failAtLast 면 마지막 chunk 에서 실패한다.
+        @Admin
+        public ResponseEntity<StreamingResponseBody> deleteComments(AuthUser authUser, int chunks, boolean failAtLast) {
+            return NdjsonResponse.<Long>progress(objectMapper, executor, Long::longValue, listener -> {
+                for (int chunk = 1; chunk <= chunks; chunk++) {
+                    if (failAtLast && chunk == chunks) {
+                        throw new IllegalStateException("chunk 실패");
+                    }
+                    producedChunks.incrementAndGet();
+                    listener.accept((long) chunk * CHUNK_SIZE);
+                    afterChunk.accept(chunk);
+                }
+            });
+        }
+    }
+}
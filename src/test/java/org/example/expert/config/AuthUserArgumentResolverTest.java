@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthUserArgumentResolverTest {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+
+    @Test
+    void Auth_가_붙은_AuthUser_파라미터만_처리한다() throws NoSuchMethodException {
+        assertTrue(resolver.supportsParameter(parameter("annotated", AuthUser.class)));
+        assertFalse(resolver.supportsParameter(parameter("plain", String.class)));
+    }
+
+    @Test
+    void Auth_와_AuthUser_타입이_함께_쓰이지_않으면_예외가_발생한다() throws NoSuchMethodException {
+        MethodParameter missingAnnotation = parameter("missingAnnotation", AuthUser.class);
+        MethodParameter wrongType = parameter("wrongType", String.class);
+
+        assertThrows(AuthException.class, () -> resolver.supportsParameter(missingAnnotation));
+        assertThrows(AuthException.class, () -> resolver.supportsParameter(wrongType));
+    }
+
+    @Test
+    void JwtFilter_가_담은_AuthUser_를_그대로_돌려준다() throws NoSuchMethodException {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, authUser);
+
+        // when
+        Object resolved = resolver.resolveArgument(
+                parameter("annotated", AuthUser.class), null, new ServletWebRequest(request), null);
+
+        // then
+        assertSame(authUser, resolved);
+    }
+
+    private static MethodParameter parameter(String methodName, Class<?> type) throws NoSuchMethodException {
+        return new MethodParameter(Handlers.class.getDeclaredMethod(methodName, type), 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+
+        void annotated(@Auth AuthUser authUser) {
+        }
+
+        void plain(String value) {
+        }
+
+        void missingAnnotation(AuthUser authUser) {
+        }
+
+        void wrongType(@Auth String value) {
+        }
+    }
+}
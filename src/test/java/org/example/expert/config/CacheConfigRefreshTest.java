@@ -0,0 +1,135 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "cache.refresh-after-write-seconds=1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({PersistenceConfig.class, CacheConfig.class, TodoService.class, TodoCountCache.class, CommentService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheConfigRefreshTest {
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 갱신_시간이_지나면_기존_값을_돌려주고_백그라운드에서_다시_읽는다() throws InterruptedException {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Long todoId = todoRepository.save(new Todo("title", "contents", "Sunny", user)).getId();
+        todoService.getTodo(todoId);
+
+        // 캐시 무효화를 거치지 않고 DB 만 바꾼다.
+        transaction.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Todo t SET t.title = 'changed' WHERE t.id = :id")
+                .setParameter("id", todoId)
+                .executeUpdate());
+        Thread.sleep(1100);
+
+        // when & then
+        assertEquals("title", todoService.getTodo(todoId).getTitle());
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> todoService.getTodo(todoId).getTitle().equals("changed"));
+    }
+
+    @Test
+    void 갱신을_켜도_없는_일정은_캐시가_읽지_않고_서비스가_한_번만_조회한다() {
+        // given
+        Statistics statistics = statistics();
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(-1L));
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 댓글_첫_페이지도_서비스를_통해_다시_읽는다() throws InterruptedException {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        commentRepository.save(new Comment("first", user, todo));
+        Statistics statistics = statistics();
+        commentService.getComments(todo.getId(), null, CommentService.CACHED_PAGE_SIZE);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // 캐시 무효화를 거치지 않고 댓글만 추가한다.
+        commentRepository.save(new Comment("second", user, todo));
+        Thread.sleep(1100);
+
+        // when & then
+        assertEquals(1, commentService.getComments(todo.getId(), null, CommentService.CACHED_PAGE_SIZE).getContent().size());
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> commentService.getComments(todo.getId(), null, CommentService.CACHED_PAGE_SIZE)
+                        .getContent().size() == 2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 무효화는 커밋 이후에 일어나므로 테스트 트랜잭션 없이 커밋하며 확인한다.
+ * (@DataJpaTest 는 기본으로 spring.cache.type=none 이라 caffeine 으로 되돌린다)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "comment.moderation.chunk-size=1"
+})
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({PersistenceConfig.class, CacheConfig.class, TodoService.class, TodoAdminService.class, TodoCountCache.class,
+        CommentService.class, CommentAdminService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheConfigTest {
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoAdminService todoAdminService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentAdminService commentAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private AuthUser authUser;
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.ADMIN));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.ADMIN);
+        todoId = transaction.execute(status -> {
+            Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+            commentRepository.save(new Comment("first", user, todo));
+            return todo.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 캐시된_일정은_커넥션도_쿼리도_쓰지_않는다() {
+        // given
+        todoService.getTodo(todoId);
+        statistics.clear();
+
+        // when
+        String title = todoService.getTodo(todoId).getTitle();
+
+        // then
+        assertEquals("title", title);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getConnectCount());
+    }
+
+    @Test
+    void 일정을_삭제하면_일정과_댓글_캐시가_함께_지워진다() {
+        // given
+        todoService.getTodo(todoId);
+        commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE);
+
+        // when
+        todoAdminService.deleteTodo(authUser, todoId);
+
+        // then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
+        assertTrue(commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE).getContent().isEmpty());
+    }
+
+    @Test
+    void 댓글을_저장하면_첫_페이지_캐시가_지워진다() {
+        // given
+        commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE);
+        statistics.clear();
+        assertEquals(1, commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE).getContent().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // when
+        commentService.saveComment(authUser, todoId, new CommentSaveRequest("second"));
+
+        // then
+        CursorResponse<CommentResponse> comments = commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE);
+        assertEquals(2, comments.getContent().size());
+    }
+
+    @Test
+    void 관리자가_댓글을_지우면_첫_페이지_캐시가_지워진다() {
+        // given
+        Long commentId = commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE).getContent().get(0).getId();
+
+        // when
+        commentAdminService.deleteComment(authUser, commentId);
+
+        // then
+        assertTrue(commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE).getContent().isEmpty());
+    }
+
+    @Test
+    void 기본_크기가_아닌_페이지는_캐시하지_않는다() {
+        // given
+        commentService.getComments(todoId, null, 5);
+        statistics.clear();
+
+        // when
+        commentService.getComments(todoId, null, 5);
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 일괄_삭제가_중간에_실패해도_삭제_중에_다시_채워진_캐시까지_지운다() {
+        // given
+        transaction.executeWithoutResult(status -> commentRepository.save(new Comment("second",
+                userRepository.getReferenceById(authUser.getId()), todoRepository.getReferenceById(todoId))));
+        commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        // 첫 chunk 뒤에 다른 요청이 남은 댓글로 첫 페이지를 다시 캐시하고, 둘째 chunk 뒤에 실패한다.
+        assertThrows(IllegalStateException.class, () -> commentAdminService.deleteCommentsByTodo(
+                authUser, todoId, now.minusDays(1), now.plusDays(1), progress -> {
+                    if (progress.getChunk() == 1) {
+                        assertEquals(1, commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE)
+                                .getContent().size());
+                    } else {
+                        throw new IllegalStateException("연결 끊김");
+                    }
+                }));
+
+        // then
+        assertEquals(0, commentRepository.count());
+        assertTrue(commentService.getComments(todoId, null, CommentService.CACHED_PAGE_SIZE).getContent().isEmpty());
+    }
+}
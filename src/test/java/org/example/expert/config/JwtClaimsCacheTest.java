@@ -0,0 +1,123 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtClaimsCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-10-18T03:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    @Test
+    void 저장한_토큰은_적중하고_처음_보는_토큰은_미스로_센다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(100, clock);
+        Claims claims = claimsExpiringIn(Duration.ofHours(1));
+        cache.put("token", claims, 1_000);
+
+        // when
+        Claims hit = cache.get("token");
+        Claims miss = cache.get("other");
+
+        // then
+        assertSame(claims, hit);
+        assertNull(miss);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    void exp_가_지나면_미스가_되어_다시_검증하게_한다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(100, clock);
+        cache.put("token", claimsExpiringIn(Duration.ofMinutes(10)), 1_000);
+
+        // when
+        now.set(now.get().plus(Duration.ofMinutes(9)));
+        Claims beforeExpiry = cache.get("token");
+        now.set(now.get().plus(Duration.ofMinutes(1)));
+        Claims afterExpiry = cache.get("token");
+
+        // then
+        assertNotNull(beforeExpiry);
+        assertNull(afterExpiry);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void exp_가_없거나_이미_지난_토큰은_캐시하지_않는다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(100, clock);
+
+        // when
+        cache.put("no-exp", Jwts.claims().setSubject("1"), 1_000);
+        cache.put("expired", claimsExpiringIn(Duration.ofSeconds(-1)), 1_000);
+
+        // then
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getVerifyCount());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_상한까지_줄인다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(10, clock);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.put("token" + i, claimsExpiringIn(Duration.ofHours(1)), 1_000);
+        }
+
+        // then
+        assertTrue(cache.size() <= 10, "size=" + cache.size());
+    }
+
+    @Test
+    void 아낀_검증_시간은_평균_검증_시간에_적중_횟수를_곱한_값이다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(100, clock);
+        cache.put("a", claimsExpiringIn(Duration.ofHours(1)), 1_000_000);
+        cache.put("b", claimsExpiringIn(Duration.ofHours(1)), 3_000_000);
+
+        // when
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        // then
+        assertEquals(4_000_000, cache.getTotalVerifyNanos());
+        assertEquals(3 * 2_000_000, cache.getEstimatedSavedNanos());
+    }
+
+    private Claims claimsExpiringIn(Duration duration) {
+        return Jwts.claims()
+                .setSubject("1")
+                .setExpiration(Date.from(now.get().plus(duration)));
+    }
+}
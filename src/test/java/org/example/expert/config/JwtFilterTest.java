@@ -0,0 +1,153 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtFilterTest {
+
+    private static final byte[] SECRET = "test-secret-key-test-secret-key-test".getBytes();
+
+    private JwtUtil jwtUtil;
+    private JwtClaimsCache jwtClaimsCache;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        jwtUtil.init();
+        jwtClaimsCache = new JwtClaimsCache(100);
+        jwtFilter = new JwtFilter(jwtUtil, jwtClaimsCache);
+    }
+
+    @Test
+    void 유효한_토큰이면_AuthUser_를_요청_속성에_담아_통과시킨다() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = request("/todos", jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        assertNotNull(chain.getRequest());
+        assertEquals(1L, authUser.getId());
+        assertEquals("a@a.com", authUser.getEmail());
+        assertEquals(UserRole.USER, authUser.getUserRole());
+    }
+
+    @Test
+    void 토큰의_역할은_대소문자까지_정확히_일치해야_한다() throws ServletException, IOException {
+        // given
+        String bearerToken = "Bearer " + Jwts.builder()
+                .setSubject("1")
+                .claim("email", "a@a.com")
+                .claim("userRole", "admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+        MockHttpServletRequest request = request("/admin/users/1", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE));
+    }
+
+    @Test
+    void 관리자가_아니면_admin_경로는_403_이다() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = request("/admin/users/1", jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void 같은_토큰의_두_번째_요청은_캐시된_claims_를_쓴다() throws ServletException, IOException {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.ADMIN);
+        jwtFilter.doFilter(request("/admin/users/1", bearerToken), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        MockFilterChain chain = new MockFilterChain();
+        jwtFilter.doFilter(request("/admin/users/1", bearerToken), new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertEquals(1, jwtClaimsCache.getHitCount());
+        assertEquals(1, jwtClaimsCache.getVerifyCount());
+    }
+
+    @Test
+    void 토큰이_없으면_400_이다() throws ServletException, IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, new MockFilterChain());
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals("JWT 토큰이 필요합니다.", response.getErrorMessage());
+    }
+
+    @Test
+    void claims_를_얻지_못하면_캐시에_넣지_않고_400_이다() throws ServletException, IOException {
+        // given
+        JwtUtil nullClaimsJwtUtil = new JwtUtil() {
+            @Override
+            public Claims extractClaims(String token) {
+                return null;
+            }
+        };
+        JwtFilter filter = new JwtFilter(nullClaimsJwtUtil, jwtClaimsCache);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("/todos", "Bearer token"), response, chain);
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals("잘못된 JWT 토큰입니다.", response.getErrorMessage());
+        assertNull(chain.getRequest());
+        assertEquals(0, jwtClaimsCache.size());
+    }
+
+    private static MockHttpServletRequest request(String uri, String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        String secretKey = Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 발급한_토큰을_jjwt_파서로_검증할_수_있다() {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a\"b@example.com", UserRole.ADMIN);
+
+        // when
+        Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+
+        // then
+        assertTrue(bearerToken.startsWith("Bearer "));
+        assertEquals("1", claims.getSubject());
+        assertEquals("a\"b@example.com", claims.get("email", String.class));
+        assertEquals("ADMIN", claims.get("userRole", String.class));
+        assertEquals(60 * 60 * 1000L, claims.getExpiration().getTime() - claims.getIssuedAt().getTime());
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MetricsConfigTest {
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void jwt_검증_시간과_캐시_적중을_내보낸다() {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(100);
+        metricsConfig.jwtMetrics(jwtClaimsCache).bindTo(registry);
+        Claims claims = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        // when
+        jwtClaimsCache.get("token");
+        jwtClaimsCache.put("token", claims, 2_000_000);
+        jwtClaimsCache.get("token");
+
+        // then
+        FunctionTimer timer = registry.get("jwt.verification").functionTimer();
+        assertEquals(1, timer.count());
+        assertEquals(2.0, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get("jwt.claims.cache").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("jwt.claims.cache").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("jwt.claims.cache.size").gauge().value());
+    }
+
+    @Test
+    void 일정_수를_아직_읽지_않았다면_NaN_이다() {
+        // given
+        TodoCountCache todoCountCache = new TodoCountCache(mock(TodoRepository.class));
+        metricsConfig.todoCountMetrics(todoCountCache).bindTo(registry);
+
+        // when & then
+        assertTrue(Double.isNaN(registry.get("todo.count").gauge().value()));
+    }
+
+    @Test
+    void 처리한_예외를_종류와_상태별로_센다() {
+        // given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(registry);
+
+        // when
+        handler.handleAuthException(new AuthException("잘못된 비밀번호입니다."));
+        handler.handleAuthException(new AuthException("잘못된 비밀번호입니다."));
+
+        // then
+        assertEquals(2, registry.get("exceptions.handled")
+                .tag("exception", "AuthException")
+                .tag("status", "401")
+                .counter().count());
+    }
+}
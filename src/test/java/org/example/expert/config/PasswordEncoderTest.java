@@ -1,18 +1,31 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -25,5 +38,59 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertEquals(2, passwordEncoder.getHashCount());
+    }
+
+    @Test
+    void 저장된_해시의_cost가_설정과_다르면_재해시가_필요하다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        PasswordEncoder upgraded = newEncoder(6, 1, 1);
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(upgraded.needsRehash(encodedPassword));
+        assertTrue(upgraded.matches("testPassword", encodedPassword));
+        assertFalse(upgraded.needsRehash(upgraded.encode("testPassword")));
+        upgraded.shutdown();
+    }
+
+    @Test
+    void 대기열이_가득차면_기다리지_않고_거절한다() throws Exception {
+        // given (스레드 1개, 대기열 1칸. cost 14 는 한 번에 수백 ms 이상 걸린다)
+        PasswordEncoder saturated = newEncoder(14, 1, 1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> saturated.encode("a"));
+        waitUntil(() -> saturated.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> saturated.encode("b"));
+        waitUntil(() -> saturated.getQueueDepth() == 1);
+
+        // when
+        assertThrows(ServiceUnavailableException.class, () -> saturated.encode("c"));
+
+        // then (실행 중인 해시가 끝나기 전에 거절됐다면 기다리지 않은 것이다. 경과 시간은 부하에 따라 흔들려 보지 않는다)
+        assertFalse(running.isDone());
+        assertEquals(1, saturated.getRejectedCount());
+        saturated.shutdown();
+        running.cancel(true);
+        queued.cancel(true);
+    }
+
+    private static PasswordEncoder newEncoder(int cost, int threads, int queueCapacity) {
+        PasswordEncoder encoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(encoder, "cost", cost);
+        ReflectionTestUtils.setField(encoder, "threads", threads);
+        ReflectionTestUtils.setField(encoder, "queueCapacity", queueCapacity);
+        encoder.init();
+        return encoder;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(5);
+        }
     }
 }
@@ -0,0 +1,110 @@
+package org.example.expert.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimit limit = new RateLimit(3, Duration.ofSeconds(3));
+
+    @Test
+    void capacity_만큼_소비하면_이후_요청은_거절된다() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+
+        assertTrue(store.tryConsume("key", limit));
+        assertTrue(store.tryConsume("key", limit));
+        assertTrue(store.tryConsume("key", limit));
+        assertFalse(store.tryConsume("key", limit));
+        assertTrue(store.tryConsume("other", limit));
+    }
+
+    @Test
+    void 시간이_지나면_비율만큼_다시_채워진다() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("key", limit);
+        }
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertTrue(store.tryConsume("key", limit));
+        assertFalse(store.tryConsume("key", limit));
+    }
+
+    @Test
+    void 한_주기_동안_쓰지_않은_버킷은_지운다() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+        store.tryConsume("a", limit);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        store.tryConsume("b", limit);
+
+        // when (a 는 마지막 사용 뒤 3초가 지나 가득 찼고, b 는 1초밖에 지나지 않았다)
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertEquals(1, store.size());
+        assertTrue(store.hasToken("a", limit));
+    }
+
+    @Test
+    void 키가_상한을_넘어도_상한_안으로_유지된다() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(10, now::get);
+
+        for (int i = 0; i < 1000; i++) {
+            store.tryConsume("key" + i, limit);
+        }
+
+        assertTrue(store.size() <= 10, "size=" + store.size());
+    }
+
+    @Test
+    void 남은_토큰_확인은_토큰을_쓰지_않는다() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(store.hasToken("key", limit));
+        }
+        assertEquals(0, store.size());
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("key", limit);
+        }
+        assertFalse(store.hasToken("key", limit));
+    }
+
+    @Test
+    void 동시에_요청해도_capacity_보다_많이_허용하지_않는다() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+        RateLimit bigLimit = new RateLimit(1000, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < 2000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (store.tryConsume("key", bigLimit)) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1000, allowed.get());
+    }
+}
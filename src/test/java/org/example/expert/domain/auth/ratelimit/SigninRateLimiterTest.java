@@ -0,0 +1,54 @@
+package org.example.expert.domain.auth.ratelimit;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninRateLimiterTest {
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, () -> 0L);
+    private final SigninRateLimiter signinRateLimiter = new SigninRateLimiter(store, 3, 60, 2, 300);
+
+    @Test
+    void 같은_이메일의_실패는_대소문자와_관계없이_함께_제한된다() {
+        signinRateLimiter.acquire("1.1.1.1", "a@a.com");
+        signinRateLimiter.recordFailure("a@a.com");
+        signinRateLimiter.acquire("2.2.2.2", "A@A.com");
+        signinRateLimiter.recordFailure(" A@A.com");
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () ->
+                signinRateLimiter.acquire("3.3.3.3", "a@a.com"));
+        assertEquals("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+    }
+
+    @Test
+    void 같은_IP는_이메일을_바꿔도_제한된다() {
+        signinRateLimiter.acquire("1.1.1.1", "a@a.com");
+        signinRateLimiter.acquire("1.1.1.1", "b@b.com");
+        signinRateLimiter.acquire("1.1.1.1", "c@c.com");
+
+        assertThrows(TooManyRequestsException.class, () -> signinRateLimiter.acquire("1.1.1.1", "d@d.com"));
+    }
+
+    @Test
+    void IP에서_막힌_요청은_이메일_한도를_쓰지_않는다() {
+        for (int i = 0; i < 3; i++) {
+            signinRateLimiter.acquire("1.1.1.1", "other" + i + "@a.com");
+        }
+        assertThrows(TooManyRequestsException.class, () -> signinRateLimiter.acquire("1.1.1.1", "a@a.com"));
+
+        signinRateLimiter.acquire("2.2.2.2", "a@a.com");
+        signinRateLimiter.acquire("2.2.2.2", "a@a.com");
+    }
+
+    @Test
+    void 로그인에_성공한_시도는_이메일_한도를_쓰지_않는다() {
+        for (int i = 0; i < 10; i++) {
+            signinRateLimiter.acquire("10.0.0." + i, "a@a.com");
+        }
+
+        assertEquals(10, store.size());
+        signinRateLimiter.acquire("10.0.0.100", "a@a.com");
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private JwtUtil jwtUtil;
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void 이미_가입된_이메일이면_해시없이_거절한다() {
+        // given
+        SignupRequest request = new SignupRequest("a@a.com", "Password1", "USER");
+        given(userRepository.existsByEmail("a@a.com")).willReturn(true);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signup(request));
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void 잘못된_권한이면_해시없이_거절한다() {
+        // given
+        SignupRequest request = new SignupRequest("a@a.com", "Password1", "OWNER");
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> authService.signup(request));
+        verifyNoInteractions(passwordEncoder, userRepository);
+    }
+
+    @Test
+    void 회원가입에_성공하면_해시를_한번만_한다() {
+        // given
+        SignupRequest request = new SignupRequest("a@a.com", "Password1", "USER");
+        given(userRepository.existsByEmail("a@a.com")).willReturn(false);
+        given(passwordEncoder.encode("Password1")).willReturn("hash");
+        given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(jwtUtil.createToken(any(), any(), any())).willReturn("Bearer token");
+
+        // when
+        SignupResponse response = authService.signup(request);
+
+        // then
+        assertEquals("Bearer token", response.getBearerToken());
+        verify(passwordEncoder, times(1)).encode(any());
+        verifyNoMoreInteractions(passwordEncoder);
+    }
+
+    @Test
+    void 로그인_성공시_저장된_해시의_cost가_다르면_새로_해시해서_저장한다() {
+        // given
+        User user = new User("a@a.com", "$2a$04$old", UserRole.USER);
+        SigninRequest request = new SigninRequest("a@a.com", "Password1");
+        given(userRepository.findByEmail("a@a.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("Password1", "$2a$04$old")).willReturn(true);
+        given(passwordEncoder.needsRehash("$2a$04$old")).willReturn(true);
+        given(passwordEncoder.encode("Password1")).willReturn("$2a$10$new");
+        given(jwtUtil.createToken(any(), any(), any())).willReturn("Bearer token");
+
+        // when
+        SigninResponse response = authService.signin(request);
+
+        // then
+        assertEquals("Bearer token", response.getBearerToken());
+        assertEquals("$2a$10$new", user.getPassword());
+    }
+
+    @Test
+    void 로그인_성공시_cost가_같으면_다시_해시하지_않는다() {
+        // given
+        User user = new User("a@a.com", "$2a$04$hash", UserRole.USER);
+        SigninRequest request = new SigninRequest("a@a.com", "Password1");
+        given(userRepository.findByEmail("a@a.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("Password1", "$2a$04$hash")).willReturn(true);
+        given(passwordEncoder.needsRehash("$2a$04$hash")).willReturn(false);
+
+        // when
+        authService.signin(request);
+
+        // then
+        verify(passwordEncoder, never()).encode(any());
+        assertEquals("$2a$04$hash", user.getPassword());
+    }
+
+    @Test
+    void 비밀번호가_틀리면_다시_해시하지_않고_예외가_발생한다() {
+        // given
+        User user = new User("a@a.com", "$2a$04$hash", UserRole.USER);
+        SigninRequest request = new SigninRequest("a@a.com", "wrong");
+        given(userRepository.findByEmail("a@a.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("wrong", "$2a$04$hash")).willReturn(false);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () -> authService.signin(request));
+        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        verify(passwordEncoder, never()).encode(any());
+    }
+}
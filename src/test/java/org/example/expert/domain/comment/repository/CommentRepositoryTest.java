@@ -0,0 +1,90 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 커서_페이징으로_일정의_댓글만_id_순으로_중복없이_읽는다() {
+        // given
+        Todo todo = saveTodoWithComments(25);
+        saveTodoWithComments(3);
+        em.flush();
+        em.clear();
+
+        // when
+        List<CommentResponse> read = new ArrayList<>();
+        List<CommentResponse> page = commentRepository.findFirstPage(todo.getId(), Limit.of(10));
+        while (!page.isEmpty()) {
+            read.addAll(page);
+            page = commentRepository.findPageAfter(todo.getId(), page.get(page.size() - 1).getId(), Limit.of(10));
+        }
+
+        // then
+        assertEquals(25, read.size());
+        assertEquals("a@a.com", read.get(0).getUser().getEmail());
+        for (int i = 1; i < read.size(); i++) {
+            assertEquals(true, read.get(i - 1).getId() < read.get(i).getId());
+        }
+    }
+
+    @Test
+    void 스트림으로_일정의_모든_댓글을_읽는다() {
+        // given
+        Todo todo = saveTodoWithComments(30);
+        saveTodoWithComments(3);
+        em.flush();
+        em.clear();
+
+        // when
+        List<String> contents;
+        try (Stream<CommentResponse> comments = commentRepository.streamByTodoId(todo.getId())) {
+            contents = comments.map(CommentResponse::getContents).toList();
+        }
+
+        // then
+        assertEquals(30, contents.size());
+        assertEquals("contents0", contents.get(0));
+        assertEquals("contents29", contents.get(29));
+    }
+
+    private Todo saveTodoWithComments(int count) {
+        User user = userRepository.findByEmail("a@a.com")
+                .orElseGet(() -> userRepository.save(new User("a@a.com", "password", UserRole.USER)));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        for (int i = 0; i < count; i++) {
+            commentRepository.save(new Comment("contents" + i, user, todo));
+        }
+        return todo;
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentModerationProgress;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "comment.moderation.chunk-size=100"
+})
+@Import({PersistenceConfig.class, CommentAdminService.class, ConcurrentMapCacheManager.class})
+class CommentAdminServiceTest {
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final AuthUser admin = new AuthUser(1L, "admin@a.com", UserRole.ADMIN);
+    private final List<CommentModerationProgress> progress = new ArrayList<>();
+    private Statistics statistics;
+    private User spammer;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        spammer = userRepository.save(new User("spam@a.com", "password", UserRole.USER));
+        user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+    }
+
+    @Test
+    void 작성자의_댓글을_chunk_단위로_지우고_진행상황을_알린다() {
+        // given
+        saveComments(spammer, todo, 250);
+        saveComments(user, todo, 5);
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        long deleted = commentAdminService.deleteCommentsByUser(admin, spammer.getId(), progress::add);
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertEquals(250, deleted);
+        assertEquals(5, commentRepository.count());
+        assertEquals(List.of(100, 100, 50, 0), progress.stream().map(CommentModerationProgress::getDeleted).toList());
+        assertTrue(progress.get(3).isDone());
+        assertEquals(250, progress.get(3).getTotalDeleted());
+        // chunk 마다 id 조회 + DELETE, 마지막에 빈 조회 한 번
+        assertEquals(7, statementCount);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void id_목록으로_지울때_중복_id는_한번만_지운다() {
+        // given
+        List<Comment> comments = saveComments(spammer, todo, 150);
+        em.flush();
+        em.clear();
+        List<Long> ids = new ArrayList<>(comments.stream().map(Comment::getId).toList());
+        ids.addAll(ids.subList(0, 20));
+
+        // when
+        long deleted = commentAdminService.deleteComments(admin, ids, progress::add);
+
+        // then
+        assertEquals(150, deleted);
+        assertEquals(0, commentRepository.count());
+        assertEquals(List.of(100, 50, 0), progress.stream().map(CommentModerationProgress::getDeleted).toList());
+    }
+
+    @Test
+    void 일정과_기간으로_지울때_다른_일정과_기간밖의_댓글은_남긴다() {
+        // given
+        Todo other = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        saveComments(spammer, todo, 30);
+        saveComments(spammer, other, 10);
+        em.flush();
+        em.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        long deletedBefore = commentAdminService.deleteCommentsByTodo(
+                admin, todo.getId(), now.minusDays(2), now.minusDays(1), progress::add);
+        long deleted = commentAdminService.deleteCommentsByTodo(
+                admin, todo.getId(), now.minusHours(1), now.plusHours(1), progress::add);
+
+        // then
+        assertEquals(0, deletedBefore);
+        assertEquals(30, deleted);
+        assertEquals(10, commentRepository.count());
+    }
+
+    @Test
+    void 기간의_시작이_끝보다_늦으면_예외가_발생한다() {
+        LocalDateTime now = LocalDateTime.now();
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentAdminService.deleteCommentsByTodo(admin, todo.getId(), now, now.minusDays(1), progress::add));
+
+        assertEquals("from 은 to 보다 이전이어야 합니다.", exception.getMessage());
+    }
+
+    private List<Comment> saveComments(User author, Todo target, int count) {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            comments.add(new Comment("spam" + i, author, target));
+        }
+        return commentRepository.saveAll(comments);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 댓글 등록 요청 하나가 실행하는 SQL 개수를 Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, CommentService.class})
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AuthUser authUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        // 시퀀스에서 id 를 미리 받아 두어 이후 측정에 시퀀스 조회가 섞이지 않게 한다.
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("warm up"));
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void 댓글_등록은_일정_존재_확인과_insert_두번이다() {
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+        em.flush();
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 댓글_일괄_등록은_batch_size_단위로_묶어서_insert_한다() {
+        // given
+        List<CommentSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(new CommentSaveRequest("contents" + i));
+        }
+
+        // when
+        List<CommentSaveResponse> responses =
+                commentService.saveComments(authUser, todo.getId(), new CommentBatchSaveRequest(requests));
+        em.flush();
+
+        // then
+        assertEquals(50, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions().getJdbcBatchSize());
+        assertEquals(100, responses.size());
+        assertEquals(100, statistics.getEntityInsertCount());
+        // 존재 확인 1 + 시퀀스 조회 2 + insert 1 (하나의 PreparedStatement 로 50건씩 두 번 executeBatch)
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+}
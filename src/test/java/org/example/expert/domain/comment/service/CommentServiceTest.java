@@ -6,6 +6,7 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -44,7 +46,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.existsById(anyLong())).willReturn(false);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -65,7 +67,8 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -79,27 +82,47 @@ class CommentServiceTest {
     public void comment_목록_조회_성공() {
         //given
         long todoId =1;
-        CommentSaveRequest request1 = new CommentSaveRequest("contents1");
-        CommentSaveRequest request2 = new CommentSaveRequest("contents2");
-        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        Todo todo = new Todo("title", "title", "contents", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        Comment comment1 = new Comment(request1.getContents(), user, todo);
-        Comment comment2 = new Comment(request2.getContents(), user, todo);
+        CommentResponse comment1 = new CommentResponse(1L, "contents1", 1L, "email");
+        CommentResponse comment2 = new CommentResponse(2L, "contents2", 1L, "email");
+        CommentResponse comment3 = new CommentResponse(3L, "contents3", 1L, "email");
+
+        given(commentRepository.findFirstPage(todoId, Limit.of(3))).willReturn(List.of(comment1, comment2, comment3));
+        //when
+        CursorResponse<CommentResponse> commentResponses = commentService.getComments(todoId, null, 2);
 
-        List<Comment> commentList = List.of(comment1, comment2);
+        //then
+        assertEquals(2, commentResponses.getContent().size());
+        assertEquals(comment1.getContents(),commentResponses.getContent().get(0).getContents());
+        assertEquals(comment2.getContents(),commentResponses.getContent().get(1).getContents());
+        assertEquals(commentResponses.getContent().get(0).getUser().getEmail(),commentResponses.getContent().get(1).getUser().getEmail());
+        assertTrue(commentResponses.isHasNext());
+        assertEquals("2", commentResponses.getNextCursor());
+    }
+
+    @Test
+    public void comment_목록_마지막_페이지는_nextCursor가_없다() {
+        //given
+        long todoId =1;
+        CommentResponse comment = new CommentResponse(3L, "contents3", 1L, "email");
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findPageAfter(todoId, 2L, Limit.of(3))).willReturn(List.of(comment));
         //when
-        List<CommentResponse> commentResponses = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> commentResponses = commentService.getComments(todoId, "2", 2);
 
         //then
-        assertEquals(2, commentResponses.size());
-        assertEquals(comment1.getContents(),commentResponses.get(0).getContents());
-        assertEquals(comment2.getContents(),commentResponses.get(1).getContents());
-        assertEquals(commentResponses.get(0).getUser().getEmail(),commentResponses.get(1).getUser().getEmail());
+        assertEquals(1, commentResponses.getContent().size());
+        assertFalse(commentResponses.isHasNext());
+        assertNull(commentResponses.getNextCursor());
     }
+
+    @Test
+    public void comment_목록_조회시_cursor가_숫자가_아니면_에러가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, ()->
+                commentService.getComments(1L, "abc", 10));
+
+        assertEquals("잘못된 cursor 입니다.", exception.getMessage());
+    }
+
     @Test
     public void comment_등록중_user값이_null이라면() {
         long todoId =1;
@@ -129,4 +152,14 @@ class CommentServiceTest {
         assertEquals("comment Contents is null",exception.getMessage());
     }
 
+
+    @Test
+    public void 댓글_목록_size_가_상한을_넘으면_조회하지_않고_거절한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getComments(1L, null, CursorResponse.MAX_SIZE + 1));
+
+        // then
+        assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
 }
@@ -0,0 +1,96 @@
+package org.example.expert.domain.manager.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+class ManagerRepositoryTest {
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 담당자_목록은_쿼리_한번으로_조회한다() {
+        // given
+        User owner = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        User manager1 = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        User manager2 = userRepository.save(new User("c@c.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        managerRepository.save(new Manager(manager1, todo));
+        managerRepository.save(new Manager(manager2, todo));
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<ManagerResponse> managers = managerRepository.findManagerResponsesByTodoId(todo.getId());
+
+        // then (일정 작성자는 생성 시 담당자로 함께 등록된다)
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, managers.size());
+        assertEquals("a@a.com", managers.get(0).getUser().getEmail());
+        assertEquals("b@b.com", managers.get(1).getUser().getEmail());
+        assertEquals("c@c.com", managers.get(2).getUser().getEmail());
+    }
+
+    @Test
+    void 담당자가_없는_일정은_id가_null인_행_하나를_반환한다() {
+        // given
+        User owner = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+        em.getEntityManager().createQuery("DELETE FROM Manager").executeUpdate();
+        em.clear();
+
+        // when
+        List<ManagerResponse> managers = managerRepository.findManagerResponsesByTodoId(todo.getId());
+
+        // then
+        assertEquals(1, managers.size());
+        assertNull(managers.get(0).getId());
+    }
+
+    @Test
+    void 일정이_없으면_빈_결과를_반환한다() {
+        // when
+        List<ManagerResponse> managers = managerRepository.findManagerResponsesByTodoId(-1L);
+
+        // then
+        assertTrue(managers.isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 담당자 등록/삭제 요청 하나가 실행하는 SQL 개수를 Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, ManagerService.class})
+class ManagerServiceQueryCountTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User managerUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        managerUser = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void 담당자_등록은_작성자_조회_담당자_조회_insert_세번이다() {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        em.flush();
+
+        // then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount()); // 담당자 유저만 엔티티로 읽는다.
+    }
+
+    @Test
+    void 담당자_삭제는_작성자_조회와_delete_두번이다() {
+        // given
+        Manager manager = managerRepository.save(new Manager(managerUser, todoRepository.getReferenceById(todo.getId())));
+        em.flush();
+        em.clear();
+        statistics.clear();
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        managerService.deleteManager(authUser, todo.getId(), manager.getId());
+        em.flush();
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(managerRepository.existsById(manager.getId()));
+    }
+}
@@ -8,7 +8,6 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -48,8 +47,8 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        //todoRepository.findById(todoId)를 했을때 아무것도 리턴하지않는다고 주어진다.
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        //일정이 없으면 조회 결과가 비어 있다.
+        given(managerRepository.findManagerResponsesByTodoId(todoId)).willReturn(List.of());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -67,12 +66,9 @@ class ManagerServiceTest {
             ReflectionTestUtils.setField(user, "id", 1L);
             AuthUser anotherUSer = new AuthUser(2L, "aa@gmail.com", UserRole.USER);
 
-            Todo todo = new Todo("title", "contents", "weather", user);
-            ReflectionTestUtils.setField(todo, "id", 1L);
-
             long managerId = 3L;
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerId);
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(user.getId()));
 
             //when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -90,14 +86,10 @@ class ManagerServiceTest {
             User user = User.fromAuthUser(authUser);
             ReflectionTestUtils.setField(user, "id", 1L);
 
-            Todo todo = new Todo("title", "contents", "weather", user);
-            ReflectionTestUtils.setField(todo, "id", 1L);
-
             long managerId = 3L;
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerId);
             given(userRepository.findById(managerSaveRequest.getManagerUserId())).willReturn(Optional.empty());
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(user.getId()));
 
             //when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -109,26 +101,20 @@ class ManagerServiceTest {
         }
 
         @Test
-        void todo의_user가_null인_경우_예외가_발생한다() {
+        void todo가_없으면_예외가_발생한다() {
             // given
-            long userId = 1L;
-            AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
             long todoId = 1L;
-            long managerUserId = 2L;
-
-            Todo todo = new Todo();
-            ReflectionTestUtils.setField(todo, "user", null);
+            ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(2L);
 
-            ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
-
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.empty());
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                     managerService.saveManager(authUser, todoId, managerSaveRequest)
             );
 
-            assertEquals("일정에 담당자가 존재하지 않습니다.", exception.getMessage());
+            assertEquals("Todo not found", exception.getMessage());
         }
 
         @Test
@@ -139,13 +125,10 @@ class ManagerServiceTest {
             User user = User.fromAuthUser(authUser);
             ReflectionTestUtils.setField(user, "id", 1L);
 
-            Todo todo = new Todo("title", "contents", "weather", user);
-            ReflectionTestUtils.setField(todo, "id", 1L);
-
             long managerId = 1L;
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerId);
             given(userRepository.findById(managerSaveRequest.getManagerUserId())).willReturn(Optional.of(user));
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(user.getId()));
 
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                     managerService.saveManager(authUser, todoId, managerSaveRequest));
@@ -159,14 +142,10 @@ class ManagerServiceTest {
             // given
             long todoId = 1L;
             User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
 
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
+            ManagerResponse mockManager = new ManagerResponse(1L, user.getId(), user.getEmail());
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            given(managerRepository.findManagerResponsesByTodoId(todoId)).willReturn(List.of(mockManager));
 
             // when
             List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -174,7 +153,21 @@ class ManagerServiceTest {
             // then
             assertEquals(1, managerResponses.size());
             assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-            assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+            assertEquals(user.getEmail(), managerResponses.get(0).getUser().getEmail());
+        }
+
+        @Test
+        public void 담당자가_없는_일정은_빈_목록을_반환한다() {
+            // given
+            long todoId = 1L;
+            given(managerRepository.findManagerResponsesByTodoId(todoId))
+                    .willReturn(List.of(new ManagerResponse(null, null, null)));
+
+            // when
+            List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+            // then
+            assertTrue(managerResponses.isEmpty());
         }
 
         @Test
@@ -185,7 +178,6 @@ class ManagerServiceTest {
             User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
 
             long todoId = 1L;
-            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
             long managerUserId = 2L;
             User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
@@ -193,7 +185,7 @@ class ManagerServiceTest {
 
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(user.getId()));
             given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
             given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -214,10 +206,8 @@ class ManagerServiceTest {
             long todoId = 1L;
             long managerUserID = 2L;
             AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
-            User user = User.fromAuthUser(authUser);
 
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(todoRepository.findUserIdById(anyLong())).willReturn(Optional.empty());
 
             InvalidRequestException exception = assertThrows(InvalidRequestException.class,()->
                     managerService.deleteManager(authUser,todoId,managerUserID));
@@ -226,38 +216,42 @@ class ManagerServiceTest {
 
         }
         @Test
-        void user가_없는경우() {
+        void 일정_작성자가_아닌경우() {
             long todoId = 1L;
-            long managerUserId = 2L;
-            long authUserId =3L;
-            AuthUser authUser = new AuthUser(authUserId, "a@a.com", UserRole.USER);
-            given(userRepository.findById(authUserId)).willReturn(Optional.empty());
+            long managerId = 2L;
+            AuthUser authUser = new AuthUser(3L, "a@a.com", UserRole.USER);
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
 
             InvalidRequestException exception = assertThrows(InvalidRequestException.class,()->
-                    managerService.deleteManager(authUser,todoId,managerUserId));
-            assertEquals("User not found",exception.getMessage());
+                    managerService.deleteManager(authUser,todoId,managerId));
+            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.",exception.getMessage());
         }
         @Test
-        void todo에_작성한user가_없는경우() {
-            long userId = 1L;
-            AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
+        void manager가_없는경우() {
             long todoId = 1L;
-            long managerUserId = 2L;
-            User user = User.fromAuthUser(authUser);
-            //todo에 user값이 null이다!!
-            Todo todo = new Todo();
-            ReflectionTestUtils.setField(todo, "user", null);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            long managerId = 2L;
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
+            given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(0);
+            given(managerRepository.existsById(managerId)).willReturn(false);
 
-            // when & then
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-                    managerService.deleteManager(authUser,todoId,managerUserId));
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,()->
+                    managerService.deleteManager(authUser,todoId,managerId));
+            assertEquals("Manager not found",exception.getMessage());
+        }
+        @Test
+        void 다른_일정의_manager인_경우() {
+            long todoId = 1L;
+            long managerId = 2L;
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
+            given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(0);
+            given(managerRepository.existsById(managerId)).willReturn(true);
 
-            assertEquals("일정에 담당자가 존재하지 않습니다.", exception.getMessage());
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,()->
+                    managerService.deleteManager(authUser,todoId,managerId));
+            assertEquals("해당 일정에 등록된 담당자가 아닙니다.",exception.getMessage());
         }
     }
 
 }
-
@@ -2,12 +2,16 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoTotalMode;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -16,14 +20,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -33,6 +43,8 @@ public class TodoServiceTest {
 
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private TodoCountCache todoCountCache;
     @InjectMocks
     private TodoService todoService;
 
@@ -41,8 +53,8 @@ public class TodoServiceTest {
         //given
         long todoId = 1L;
 
-        given(todoRepository.findByIdWithUser(anyLong())).
-                willReturn(Optional.of(new Todo()));
+        given(todoRepository.findTodoResponseById(anyLong())).
+                willReturn(Optional.of(new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", null, null)));
         //when
         TodoResponse todoResponse = todoService.getTodo(todoId);
         //then
@@ -106,4 +118,59 @@ public class TodoServiceTest {
         assertEquals(todoSaveResponse.getUser().getId(),user.getId());
         assertEquals(todoSaveResponse.getUser().getEmail(),user.getEmail());
     }
+
+    @Test
+    public void 날씨를_가져오지_못해도_Unknown_으로_일정을_저장한다() {
+        AuthUser authUser = new AuthUser(1L, "asd@gmail.com", UserRole.USER);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+        given(weatherClient.getTodayWeather()).willReturn(WeatherClient.UNKNOWN_WEATHER);
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoSaveRequest);
+
+        assertEquals(WeatherClient.UNKNOWN_WEATHER, todoSaveResponse.getWeather());
+    }
+
+    @Test
+    public void 일정_목록을_approx_로_조회하면_count_쿼리_대신_메모리의_일정_수를_쓴다() {
+        Pageable pageable = PageRequest.of(1, 10);
+        given(todoRepository.findTodoResponseSlice(pageable)).willReturn(new SliceImpl<>(List.of(todoResponse()), pageable, true));
+        given(todoCountCache.get()).willReturn(42L);
+
+        TodoPageResponse todos = todoService.getTodos(2, 10, TodoTotalMode.APPROX);
+
+        assertEquals(42L, todos.getTotal());
+        assertEquals(2, todos.getPage());
+        assertTrue(todos.isHasNext());
+        assertEquals(1, todos.getContent().size());
+        verify(todoRepository, never()).findTodoResponses(any());
+    }
+
+    @Test
+    public void 일정_목록을_none_으로_조회하면_전체_개수_없이_다음_페이지_여부만_준다() {
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findTodoResponseSlice(pageable)).willReturn(new SliceImpl<>(List.of(todoResponse()), pageable, true));
+
+        TodoPageResponse todos = todoService.getTodos(1, 10, TodoTotalMode.NONE);
+
+        assertNull(todos.getTotal());
+        assertTrue(todos.isHasNext());
+        verify(todoCountCache, never()).get();
+        verify(todoRepository, never()).findTodoResponses(any());
+    }
+
+    private static TodoResponse todoResponse() {
+        return new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", null, null);
+    }
+
+    @Test
+    public void 커서_목록_size_가_상한을_넘으면_거절한다() {
+        // Integer.MAX_VALUE 면 size + 1 이 넘쳐 음수 Limit 이 되던 경우도 같이 막는다.
+        for (int size : new int[]{CursorResponse.MAX_SIZE + 1, Integer.MAX_VALUE}) {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.getTodosByCursor(null, size));
+            assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        }
+        verify(todoRepository, never()).findFirstPage(any());
+    }
 }
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TodoControllerTest {
+
+    private static final Set<String> FIELDS = Set.of("content", "page", "size", "hasNext", "total");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Pageable pageable = PageRequest.of(1, 10);
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TodoService todoService = new TodoService(todoRepository, weatherClient, todoCountCache);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TodoController(todoService)).build();
+    }
+
+    @Test
+    void withTotal_이_exact_면_count_쿼리_결과를_total_로_준다() throws Exception {
+        // given
+        given(todoRepository.findTodoResponses(pageable)).willReturn(new PageImpl<>(todos(), pageable, 25));
+
+        // when
+        JsonNode body = getTodos("exact");
+
+        // then
+        assertEquals(25, body.get("total").asLong());
+        assertTrue(body.get("hasNext").asBoolean());
+    }
+
+    @Test
+    void withTotal_이_approx_면_메모리의_일정_수를_total_로_준다() throws Exception {
+        // given
+        given(todoRepository.findTodoResponseSlice(pageable)).willReturn(new SliceImpl<>(todos(), pageable, true));
+        given(todoCountCache.get()).willReturn(42L);
+
+        // when
+        JsonNode body = getTodos("approx");
+
+        // then
+        assertEquals(42, body.get("total").asLong());
+        assertTrue(body.get("hasNext").asBoolean());
+    }
+
+    @Test
+    void withTotal_이_none_이어도_같은_모양에_total_만_null_이다() throws Exception {
+        // given
+        given(todoRepository.findTodoResponseSlice(pageable)).willReturn(new SliceImpl<>(todos(), pageable, false));
+
+        // when
+        JsonNode body = getTodos("none");
+
+        // then
+        assertTrue(body.get("total").isNull());
+        assertFalse(body.get("hasNext").asBoolean());
+    }
+
+    // 세 방식 모두 필드 구성이 같아야 한다. (Page/Slice 직렬화 형태가 새어 나오지 않는다)
+    private JsonNode getTodos(String withTotal) throws Exception {
+        String json = mockMvc.perform(get("/todos").param("page", "2").param("size", "10").param("withTotal", withTotal))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode body = objectMapper.readTree(json);
+
+        List<String> fieldNames = new ArrayList<>();
+        body.fieldNames().forEachRemaining(fieldNames::add);
+        assertEquals(new TreeSet<>(FIELDS), new TreeSet<>(fieldNames));
+        assertEquals(2, body.get("page").asInt());
+        assertEquals(10, body.get("size").asInt());
+        assertEquals(1, body.get("content").size());
+        assertEquals("title", body.get("content").get(0).get("title").asText());
+        return body;
+    }
+
+    private static List<TodoResponse> todos() {
+        return List.of(new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", null, null));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 커서_페이징으로_모든_일정을_중복없이_최근_수정순으로_읽는다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        for (int i = 0; i < 25; i++) {
+            todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<TodoResponse> read = new ArrayList<>();
+        List<TodoResponse> page = todoRepository.findFirstPage(Limit.of(10));
+        while (!page.isEmpty()) {
+            read.addAll(page);
+            TodoCursor cursor = TodoCursor.decode(
+                    new TodoCursor(page.get(page.size() - 1).getModifiedAt(), page.get(page.size() - 1).getId()).encode());
+            page = todoRepository.findPageAfter(cursor.getModifiedAt(), cursor.getId(), Limit.of(10));
+        }
+
+        // then
+        assertEquals(25, read.size());
+        assertEquals(25, read.stream().map(TodoResponse::getId).distinct().count());
+        assertEquals("a@a.com", read.get(0).getUser().getEmail());
+        for (int i = 1; i < read.size(); i++) {
+            TodoResponse prev = read.get(i - 1);
+            TodoResponse next = read.get(i);
+            boolean ordered = prev.getModifiedAt().isAfter(next.getModifiedAt())
+                    || (prev.getModifiedAt().isEqual(next.getModifiedAt()) && prev.getId() > next.getId());
+            assertEquals(true, ordered);
+        }
+    }
+
+    @Test
+    void 전체_개수는_count_쿼리로_Slice_는_개수없이_다음_페이지_여부만_알려준다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        for (int i = 0; i < 15; i++) {
+            todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+        }
+
+        // when
+        Page<TodoResponse> page = todoRepository.findTodoResponses(PageRequest.of(0, 10));
+        Slice<TodoResponse> slice = todoRepository.findTodoResponseSlice(PageRequest.of(0, 10));
+
+        // then
+        assertEquals(15, page.getTotalElements());
+        assertEquals(10, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+    }
+}
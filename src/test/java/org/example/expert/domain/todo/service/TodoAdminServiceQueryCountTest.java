@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 일정 삭제가 댓글 수와 관계없이 같은 개수의 SQL 로 끝나는지 Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, TodoAdminService.class, TodoCountCache.class})
+class TodoAdminServiceQueryCountTest {
+
+    @Autowired
+    private TodoAdminService todoAdminService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private AuthUser admin;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(new User("a@a.com", "password", UserRole.ADMIN));
+        admin = new AuthUser(user.getId(), user.getEmail(), UserRole.ADMIN);
+    }
+
+    @Test
+    void 댓글이_많아도_일정_삭제는_DELETE_세번이다() {
+        // given
+        Todo todo = saveTodoWithComments(200);
+        Todo other = saveTodoWithComments(3);
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        todoAdminService.deleteTodo(admin, todo.getId());
+        em.flush();
+
+        // then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(todoRepository.existsById(todo.getId()));
+        assertEquals(3, commentRepository.count());
+        assertEquals(1, managerRepository.count());
+        assertTrue(todoRepository.existsById(other.getId()));
+    }
+
+    @Test
+    void 없는_일정을_삭제하면_예외가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoAdminService.deleteTodo(admin, -1L));
+
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private Todo saveTodoWithComments(int count) {
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            comments.add(new Comment("contents" + i, user, todo));
+        }
+        commentRepository.saveAll(comments);
+        return todo;
+    }
+}
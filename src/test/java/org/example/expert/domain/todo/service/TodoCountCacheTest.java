@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @InjectMocks
+    private TodoCountCache todoCountCache;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 처음_한_번만_count_쿼리를_실행한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        todoCountCache.get();
+        long count = todoCountCache.get();
+
+        // then
+        assertEquals(10, count);
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    void 읽기_전의_증감은_무시하고_NOT_LOADED_로_남는다() {
+        // when
+        todoCountCache.increment();
+        todoCountCache.decrement();
+
+        // then
+        assertEquals(-1, todoCountCache.peek());
+    }
+
+    @Test
+    void 읽은_뒤에는_저장과_삭제에_따라_증감하고_0_아래로_내려가지_않는다() {
+        // given
+        given(todoRepository.count()).willReturn(1L);
+        todoCountCache.get();
+
+        // when
+        todoCountCache.increment();
+        todoCountCache.decrement();
+        todoCountCache.decrement();
+        todoCountCache.decrement();
+
+        // then
+        assertEquals(0, todoCountCache.peek());
+    }
+
+    @Test
+    void 트랜잭션_안의_증감은_커밋된_뒤에_반영한다() {
+        // given
+        given(todoRepository.count()).willReturn(5L);
+        todoCountCache.get();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        todoCountCache.decrement();
+        long beforeCommit = todoCountCache.peek();
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        // then
+        assertEquals(5, beforeCommit);
+        assertEquals(4, todoCountCache.peek());
+    }
+
+    @Test
+    void 재동기화는_count_쿼리_결과로_바로잡는다() {
+        // given
+        given(todoRepository.count()).willReturn(5L, 8L);
+        todoCountCache.get();
+
+        // when
+        todoCountCache.resync();
+
+        // then
+        assertEquals(8, todoCountCache.peek());
+    }
+
+    @Test
+    void 재동기화_쿼리_도중에_증감이_있으면_덮어쓰지_않는다() {
+        // given
+        given(todoRepository.count()).willReturn(5L).willAnswer(invocation -> {
+            // count 쿼리가 실행되는 동안 다른 요청이 저장을 커밋했다.
+            todoCountCache.increment();
+            return 5L;
+        });
+        todoCountCache.get();
+
+        // when
+        todoCountCache.resync();
+
+        // then
+        assertEquals(6, todoCountCache.peek());
+    }
+
+    @Test
+    void 읽기_전에는_재동기화도_쿼리를_실행하지_않는다() {
+        // when
+        todoCountCache.resync();
+
+        // then
+        assertEquals(-1, todoCountCache.peek());
+        verify(todoRepository, times(0)).count();
+    }
+}
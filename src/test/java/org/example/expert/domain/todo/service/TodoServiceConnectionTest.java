@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 일정 저장 중 날씨 API 를 기다리는 동안 Hikari 커넥션을 하나도 잡고 있지 않은지 확인한다.
+ * 실제 풀의 활성 커넥션 수를 보기 위해 내장 DB 로 바꾸지 않고(Hikari 그대로), 테스트 트랜잭션도 열지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, TodoService.class, TodoCountCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoServiceConnectionTest {
+
+    private static final long WEATHER_DELAY_MS = 200;
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private HikariPoolMXBean pool;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    @AfterEach
+    void tearDown() {
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 느린_날씨_API_를_기다리는_동안_커넥션을_잡지_않는다() {
+        // given
+        List<Integer> activeDuringWeatherCall = new ArrayList<>();
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            activeDuringWeatherCall.add(pool.getActiveConnections());
+            Thread.sleep(WEATHER_DELAY_MS);
+            activeDuringWeatherCall.add(pool.getActiveConnections());
+            return "Sunny";
+        });
+
+        // when
+        todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertEquals(List.of(0, 0), activeDuringWeatherCall);
+        assertEquals(1, todoRepository.count());
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    @Test
+    void 트랜잭션_안에서_쿼리를_실행하면_활성_커넥션으로_보인다() {
+        // 위 테스트의 0 이 측정 방법 때문이 아님을 확인한다.
+        Integer active = new TransactionTemplate(transactionManager).execute(status -> {
+            todoRepository.count();
+            return pool.getActiveConnections();
+        });
+
+        assertEquals(1, active);
+    }
+}
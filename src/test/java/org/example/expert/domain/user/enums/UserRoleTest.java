@@ -0,0 +1,28 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRoleTest {
+
+    @Test
+    void 이름으로_역할을_찾는다() {
+        assertEquals(UserRole.ADMIN, UserRole.of("ADMIN"));
+        assertEquals(UserRole.USER, UserRole.of("USER"));
+    }
+
+    @Test
+    void 요청으로_들어온_역할은_대소문자를_구분하지_않는다() {
+        assertEquals(UserRole.ADMIN, UserRole.of("admin"));
+        assertEquals(UserRole.USER, UserRole.of("User"));
+    }
+
+    @Test
+    void 없는_역할이나_null_이면_예외가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> UserRole.of("OWNER"));
+        assertEquals("유효하지 않은 UerRole", exception.getMessage());
+        assertThrows(InvalidRequestException.class, () -> UserRole.of(null));
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 트랜잭션마다 커밋하며 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = transaction.execute(status ->
+                userRepository.save(new User("a@a.com", "password", UserRole.USER)).getId());
+        // 첫 조회로 캐시를 채운다.
+        transaction.executeWithoutResult(status -> userRepository.findByEmail("a@a.com"));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 캐시된_유저는_id와_이메일로_조회할때_쿼리를_보내지_않는다() {
+        // when
+        User byId = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+        User byEmail = transaction.execute(status -> userRepository.findByEmail("a@a.com").orElseThrow());
+
+        // then
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("a@a.com", byId.getEmail());
+        assertEquals(userId, byEmail.getId());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2);
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 1);
+    }
+
+    @Test
+    void 비밀번호와_권한을_바꾸면_이후_조회는_바뀐_값을_읽는다() {
+        // when
+        transaction.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.changePassword("changed");
+            user.updateRole(UserRole.ADMIN);
+        });
+        statistics.clear();
+        User user = transaction.execute(status -> userRepository.findByEmail("a@a.com").orElseThrow());
+
+        // then (READ_WRITE 캐시는 커밋 시점에 새 값으로 갱신된다)
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("changed", user.getPassword());
+        assertEquals(UserRole.ADMIN, user.getUserRole());
+    }
+
+    @Test
+    void 없는_이메일은_빈_결과를_반환한다() {
+        assertTrue(transaction.execute(status -> userRepository.findByEmail("none@a.com")).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void 비밀번호_변경에_성공하면_검증과_해시를_한번씩만_한다() {
+        // given
+        User user = new User("a@a.com", "hash", UserRole.USER);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("OldPassword1", "hash")).willReturn(true);
+        given(passwordEncoder.encode("NewPassword1")).willReturn("newHash");
+
+        // when
+        userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "NewPassword1"));
+
+        // then
+        assertEquals("newHash", user.getPassword());
+        verify(passwordEncoder, times(1)).matches(any(), any());
+        verify(passwordEncoder, times(1)).encode(any());
+    }
+
+    @Test
+    void 새_비밀번호가_기존과_같으면_해시없이_거절한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(1L, new UserChangePasswordRequest("Password1", "Password1")));
+
+        // then
+        assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getMessage());
+        verifyNoInteractions(passwordEncoder, userRepository);
+    }
+
+    @Test
+    void 새_비밀번호_형식이_틀리면_해시없이_거절한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "short")));
+
+        // then
+        assertEquals("새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.", exception.getMessage());
+        verifyNoInteractions(passwordEncoder, userRepository);
+    }
+
+    @Test
+    void 기존_비밀번호가_틀리면_검증_한번만_하고_거절한다() {
+        // given
+        User user = new User("a@a.com", "hash", UserRole.USER);
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("WrongPassword1", "hash")).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(1L, new UserChangePasswordRequest("WrongPassword1", "NewPassword1")));
+
+        // then
+        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        verify(passwordEncoder, times(1)).matches(any(), any());
+        verify(passwordEncoder, never()).encode(any());
+    }
+}